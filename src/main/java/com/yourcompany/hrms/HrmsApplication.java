@@ -2,8 +2,10 @@ package com.yourcompany.hrms;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class HrmsApplication {
 
     public static void main(String[] args) {
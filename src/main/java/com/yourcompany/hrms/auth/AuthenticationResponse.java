@@ -13,6 +13,8 @@ import lombok.NoArgsConstructor;
 public class AuthenticationResponse {
 
     private String token;
+    private String refreshToken;
+    private Long expiresIn;
     private UserResponse userData;
 
 }
@@ -0,0 +1,88 @@
+package com.yourcompany.hrms.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.yourcompany.hrms.entity.Organization;
+import com.yourcompany.hrms.entity.Role;
+import com.yourcompany.hrms.entity.user.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process JCache (Caffeine) manager backing the Hibernate second-level cache. Regions are
+ * created here with bounded sizes and a time-to-live, so rows changed outside the application
+ * are eventually reloaded; Hibernate is configured to fail on any region not created here.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    private static final List<String> REGIONS = List.of(
+            User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION, Role.CACHE_REGION, Organization.CACHE_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${hrms.entity-cache.users.max-size:10000}") long userMaxSize,
+            @Value("${hrms.entity-cache.users.ttl-seconds:600}") long userTtlSeconds,
+            @Value("${hrms.entity-cache.reference.max-size:1000}") long referenceMaxSize,
+            @Value("${hrms.entity-cache.reference.ttl-seconds:3600}") long referenceTtlSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        createRegion(cacheManager, User.CACHE_REGION, userMaxSize, userTtlSeconds);
+        createRegion(cacheManager, User.NATURAL_ID_CACHE_REGION, userMaxSize, userTtlSeconds);
+        createRegion(cacheManager, Role.CACHE_REGION, referenceMaxSize, referenceTtlSeconds);
+        createRegion(cacheManager, Organization.CACHE_REGION, referenceMaxSize, referenceTtlSeconds);
+        return cacheManager;
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxSize, long ttlSeconds) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        // Hibernate caches immutable disassembled state, so copying entries on every access is wasted work
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(name, configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheManagerCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    // Hits and misses per region are exported by Hibernate's metrics; this adds the ratio
+    @Bean
+    public MeterBinder entityCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : REGIONS) {
+                Gauge.builder("hrms.entity-cache.hit-ratio", statistics, stats -> hitRatio(stats, region))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,19 @@
+package com.yourcompany.hrms.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.yourcompany.hrms.entity.user.UserFieldSet;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // UserResponse carries a @JsonFilter; unless a request narrows it, every property is written
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer userFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(UserFieldSet.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
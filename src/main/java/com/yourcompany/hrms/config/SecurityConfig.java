@@ -1,21 +1,22 @@
 package com.yourcompany.hrms.config;
 
+import com.yourcompany.hrms.repository.UserRepository;
+import com.yourcompany.hrms.security.BulkheadPasswordEncoder;
 import com.yourcompany.hrms.security.JwtAuthenticationFilter;
 import com.yourcompany.hrms.security.SameUserOrAdminHrAuthorizationManager;
+import com.yourcompany.hrms.security.UserAuthenticationProvider;
+import com.yourcompany.hrms.security.UserDetailsCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.http.HttpMethod;
@@ -26,11 +27,33 @@ import org.springframework.http.HttpMethod;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final UserDetailsService userDetailsService;
+    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, UserDetailsService userDetailsService) {
+    @Value("${security.password.target-hash-millis:250}")
+    private long targetHashMillis;
+
+    @Value("${security.password.min-strength:10}")
+    private int minStrength;
+
+    @Value("${security.password.max-strength:14}")
+    private int maxStrength;
+
+    @Value("${security.password.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${security.password.queue-capacity:64}")
+    private int hashQueueCapacity;
+
+    @Value("${security.password.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          UserRepository userRepository,
+                          UserDetailsCache userDetailsCache) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
-        this.userDetailsService = userDetailsService;
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
 //    @Bean
@@ -75,9 +98,13 @@ public class SecurityConfig {
 
                         .requestMatchers("/api/auth/**").permitAll()
 
-                        .requestMatchers(HttpMethod.POST, "/api/users").hasAnyRole("ADMIN", "HR")
+                        .requestMatchers(HttpMethod.POST, "/api/users/bulk/deactivate").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/users", "/api/users/bulk", "/api/users/batch-get")
+                        .hasAnyRole("ADMIN", "HR")
+                        .requestMatchers(HttpMethod.PUT, "/api/users/bulk").hasAnyRole("ADMIN", "HR")
 
-                        .requestMatchers(HttpMethod.GET, "/api/users")
+                        .requestMatchers(HttpMethod.GET, "/api/users", "/api/users/suggest", "/api/users/export",
+                                "/api/users/headcount")
                         .hasAnyRole("ADMIN", "HR")
                         .requestMatchers(HttpMethod.GET, "/api/users/*")
                         .authenticated()
@@ -100,15 +127,14 @@ public class SecurityConfig {
 
     @Bean
     public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
-        return authProvider;
+        return new UserAuthenticationProvider(userRepository, passwordEncoder(), userDetailsCache);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BulkheadPasswordEncoder passwordEncoder() {
+        int strength = BulkheadPasswordEncoder.calibrate(targetHashMillis, minStrength, maxStrength);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BulkheadPasswordEncoder(strength, threads, hashQueueCapacity, retryAfterSeconds);
     }
 
     @Bean
@@ -0,0 +1,35 @@
+package com.yourcompany.hrms.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.yourcompany.hrms.entity.user.UserFieldSet;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Trims serialized UserResponse objects to the field set a controller stored in the request
+ * under {@link UserFieldSet#REQUEST_ATTRIBUTE}.
+ */
+@RestControllerAdvice
+public class UserFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Object attribute = servletRequest.getServletRequest().getAttribute(UserFieldSet.REQUEST_ATTRIBUTE);
+        if (attribute instanceof UserFieldSet fields && !fields.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider().addFilter(UserFieldSet.FILTER_ID,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(fields.getNames())));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.yourcompany.hrms.config;
+
+import com.yourcompany.hrms.entity.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the users id sequence past the highest existing id. Databases created while User.id
+ * was an IDENTITY column already hold rows, and the sequence that ddl-auto creates starts at 1.
+ * Runs once all singletons (and so the schema update) are ready, before the web server takes
+ * requests and before the CommandLineRunners insert anything.
+ */
+@Slf4j
+@Component
+public class UserIdSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final String ALIGN_SQL = "SELECT setval('" + User.ID_SEQUENCE + "', GREATEST("
+            + "(SELECT COALESCE(MAX(id), 0) FROM users) + ?, "
+            + "(SELECT last_value FROM " + User.ID_SEQUENCE + ")))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserIdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            Long value = jdbcTemplate.queryForObject(ALIGN_SQL, Long.class, User.ID_ALLOCATION_SIZE);
+            log.info("User id sequence {} positioned at {}", User.ID_SEQUENCE, value);
+        } catch (RuntimeException e) {
+            log.warn("Could not align user id sequence {}", User.ID_SEQUENCE, e);
+        }
+    }
+}
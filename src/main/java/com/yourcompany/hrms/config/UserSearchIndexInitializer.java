@@ -0,0 +1,64 @@
+package com.yourcompany.hrms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enables full-text user search once the PostgreSQL objects behind it are in place: the
+ * generated search_vector column and two valid GIN indexes. They are created by the
+ * db/user-search.sql migration, not here, because adding the column rewrites the table and a
+ * non-concurrent index build blocks writes; neither belongs on a node taking live traffic.
+ * Until they exist, search stays on the LIKE query.
+ */
+@Slf4j
+@Component
+public class UserSearchIndexInitializer {
+
+    private static final String COLUMN_SQL = "SELECT count(*) FROM information_schema.columns "
+            + "WHERE table_schema = current_schema() AND table_name = 'users' AND column_name = 'search_vector'";
+
+    // An interrupted CREATE INDEX CONCURRENTLY leaves an invalid index, which the planner never uses
+    private static final String VALID_INDEXES_SQL = "SELECT count(*) FROM pg_index i "
+            + "JOIN pg_class c ON c.oid = i.indexrelid "
+            + "WHERE c.relnamespace = current_schema()::regnamespace AND i.indisvalid "
+            + "AND c.relname IN ('idx_users_search_vector', 'idx_users_search_trgm')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean fullTextMode;
+    private volatile boolean ready;
+
+    public UserSearchIndexInitializer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${hrms.user-search.mode:like}") String mode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullTextMode = "fulltext".equalsIgnoreCase(mode);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkSearchIndexes() {
+        if (!fullTextMode) {
+            return;
+        }
+        try {
+            Integer columns = jdbcTemplate.queryForObject(COLUMN_SQL, Integer.class);
+            Integer indexes = jdbcTemplate.queryForObject(VALID_INDEXES_SQL, Integer.class);
+            if (columns == null || columns == 0 || indexes == null || indexes < 2) {
+                log.warn("Full-text user search is configured but db/user-search.sql has not been applied "
+                        + "(or an index build is invalid); falling back to LIKE search");
+                return;
+            }
+            ready = true;
+            log.info("Full-text user search enabled");
+        } catch (RuntimeException e) {
+            log.warn("Could not check full-text user search objects, falling back to LIKE search", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
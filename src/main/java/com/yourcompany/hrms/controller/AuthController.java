@@ -2,22 +2,30 @@ package com.yourcompany.hrms.controller;
 
 import com.yourcompany.hrms.auth.AuthenticationRequest;
 import com.yourcompany.hrms.auth.AuthenticationResponse;
+import com.yourcompany.hrms.auth.RefreshTokenRequest;
 import com.yourcompany.hrms.config.ResponseWrapper;
 import com.yourcompany.hrms.entity.user.User;
 import com.yourcompany.hrms.entity.user.UserResponse;
+import com.yourcompany.hrms.jwt.JwtPrincipal;
 import com.yourcompany.hrms.jwt.JwtService;
-import com.yourcompany.hrms.repository.UserRepository;
-import com.yourcompany.hrms.service.UserDetailsServiceImpl;
+import com.yourcompany.hrms.security.RevokedTokenStore;
+import com.yourcompany.hrms.security.UserAuthenticationToken;
+import com.yourcompany.hrms.security.VerifiedTokenCache;
+import com.yourcompany.hrms.service.LastLoginRecorder;
+import com.yourcompany.hrms.service.RefreshTokenService;
 import com.yourcompany.hrms.service.UserService;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,14 +35,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
     private final JwtService jwtService;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenStore revokedTokenStore;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @PostMapping("/login")
     public ResponseEntity<ResponseWrapper<AuthenticationResponse>> login(@Valid @RequestBody AuthenticationRequest request) {
 
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
@@ -47,9 +58,11 @@ public class AuthController {
 //        User user = userRepository.findByEmail(request.getEmail())
 //                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        User user = userRepository.findByEmailWithAllRelations(request.getEmail())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        // Loaded once by UserAuthenticationProvider with organization, role and createdBy fetched
+        User user = ((UserAuthenticationToken) authentication).getUser();
 
+        // Buffered and written in batches, keeps the UPDATE off the login path
+        lastLoginRecorder.record(user.getId(), LocalDateTime.now());
 
 
         // Generate JWT token
@@ -64,12 +77,50 @@ public class AuthController {
 
         AuthenticationResponse authResponse = AuthenticationResponse.builder()
                 .token(token)
+                .refreshToken(refreshTokenService.issue(user))
+                .expiresIn(jwtService.getExpirationSeconds())
                 .userData(userResponse)
                 .build();
 
         return ResponseEntity.ok(ResponseWrapper.success("Login successful", authResponse));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ResponseWrapper<AuthenticationResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotation.user();
+
+        AuthenticationResponse authResponse = AuthenticationResponse.builder()
+                .token(jwtService.generateToken(user))
+                .refreshToken(rotation.refreshToken())
+                .expiresIn(jwtService.getExpirationSeconds())
+                .userData(userService.toUserResponse(user))
+                .build();
+
+        return ResponseEntity.ok(ResponseWrapper.success("Token refreshed", authResponse));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ResponseWrapper<Object>> logout(
+            @RequestBody(required = false) RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                JwtPrincipal principal = verifiedTokenCache.verify(authHeader.substring(7));
+                revokedTokenStore.revoke(principal);
+            } catch (JwtException e) {
+                // Already invalid or expired, nothing to revoke
+            }
+        }
+
+        return ResponseEntity.ok(ResponseWrapper.success("Logged out successfully"));
+    }
+
 
 }
 
@@ -1,17 +1,37 @@
 package com.yourcompany.hrms.controller;
 
+import com.yourcompany.hrms.config.CursorPage;
 import com.yourcompany.hrms.config.ResponseWrapper;
+import com.yourcompany.hrms.entity.user.BatchGetUsersRequest;
+import com.yourcompany.hrms.entity.user.BatchGetUsersResponse;
+import com.yourcompany.hrms.entity.user.BulkImportResponse;
+import com.yourcompany.hrms.entity.user.BulkUpdateResponse;
+import com.yourcompany.hrms.entity.user.BulkUpdateUsersRequest;
+import com.yourcompany.hrms.entity.user.BulkUserSelection;
+import com.yourcompany.hrms.entity.user.HeadcountResponse;
 import com.yourcompany.hrms.entity.user.RegisterRequest;
 import com.yourcompany.hrms.entity.user.UpdateUserRequest;
+import com.yourcompany.hrms.entity.user.UserFieldSet;
+import com.yourcompany.hrms.entity.user.UserFilter;
 import com.yourcompany.hrms.entity.user.UserResponse;
+import com.yourcompany.hrms.entity.user.UserSuggestion;
+import com.yourcompany.hrms.exception.PreconditionFailedException;
+import com.yourcompany.hrms.repository.UserVersion;
+import com.yourcompany.hrms.security.AuthenticatedUser;
+import com.yourcompany.hrms.service.TotalCountMode;
+import com.yourcompany.hrms.service.UserBulkImportService;
+import com.yourcompany.hrms.service.UserBulkUpdateService;
+import com.yourcompany.hrms.service.UserExportService;
 import com.yourcompany.hrms.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,54 +39,282 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
+    // Only columns with a supporting index, so sortBy cannot force an unindexed sort
+    private static final Set<String> SORTABLE_FIELDS =
+            new LinkedHashSet<>(List.of("id", "fullName", "email", "employeeCode", "createdAt", "dateOfJoining"));
+
     private final UserService userService;
+    private final UserExportService userExportService;
+    private final UserBulkImportService userBulkImportService;
+    private final UserBulkUpdateService userBulkUpdateService;
 
     @PostMapping
     public ResponseEntity<ResponseWrapper<UserResponse>> createUser(@Valid @RequestBody RegisterRequest request) {
-        String currentUserEmail = userService.getCurrentUserEmail();
-        UserResponse userResponse = userService.createUser(request, currentUserEmail);
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        UserResponse userResponse = userService.createUser(request, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ResponseWrapper.success("User created successfully", userResponse));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper<BulkImportResponse>> bulkCreateUsers(
+            @RequestBody List<RegisterRequest> requests) {
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        BulkImportResponse report = userBulkImportService.importUsers(requests, currentUser);
+        return ResponseEntity.ok(ResponseWrapper.success(bulkImportMessage(report), report));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<ResponseWrapper<BulkImportResponse>> bulkCreateUsersFromCsv(InputStream csv)
+            throws IOException {
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        BulkImportResponse report = userBulkImportService.importCsv(csv, currentUser);
+        return ResponseEntity.ok(ResponseWrapper.success(bulkImportMessage(report), report));
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<ResponseWrapper<BulkUpdateResponse>> bulkUpdateUsers(
+            @Valid @RequestBody BulkUpdateUsersRequest request) {
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        BulkUpdateResponse report = userBulkUpdateService.updateUsers(request, currentUser);
+        return ResponseEntity.ok(ResponseWrapper.success(report.getUpdated() + " users updated", report));
+    }
+
+    @PostMapping("/bulk/deactivate")
+    public ResponseEntity<ResponseWrapper<BulkUpdateResponse>> bulkDeactivateUsers(
+            @Valid @RequestBody BulkUserSelection selection) {
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        BulkUpdateResponse report = userBulkUpdateService.deactivateUsers(selection, currentUser);
+        return ResponseEntity.ok(ResponseWrapper.success(report.getUpdated() + " users deactivated", report));
+    }
+
+    private static String bulkImportMessage(BulkImportResponse report) {
+        return report.getCreated() + " of " + report.getTotal() + " users created";
+    }
+
     @GetMapping
-    public ResponseEntity<ResponseWrapper<Page<UserResponse>>> getAllUsers(
+    public ResponseEntity<ResponseWrapper<Slice<UserResponse>>> getAllUsers(
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) {
-        Sort sort = sortDir.equalsIgnoreCase("DESC") 
-                ? Sort.by(sortBy).descending() 
-                : Sort.by(sortBy).ascending();
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(defaultValue = "EXACT") TotalCountMode total,
+            @RequestParam(required = false) String fields,
+            UserFilter filter,
+            WebRequest webRequest) {
+        UserFieldSet fieldSet = selectFields(fields, webRequest);
+        String etag = collectionETag(webRequest);
+        if (matchesIfNoneMatch(webRequest, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        // Left unsorted when neither is given, so ranked search can tell an explicit sort from the default
+        Sort sort = Sort.unsorted();
+        if (sortBy != null || sortDir != null) {
+            String property = sortBy != null ? sortBy : "id";
+            if (!SORTABLE_FIELDS.contains(property)) {
+                throw new IllegalArgumentException("Unsupported sort field: " + property
+                        + ". Allowed: " + String.join(", ", SORTABLE_FIELDS));
+            }
+            sort = "DESC".equalsIgnoreCase(sortDir)
+                    ? Sort.by(property).descending()
+                    : Sort.by(property).ascending();
+        }
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<UserResponse> users = userService.getAllUsers(search, pageable);
+        Slice<UserResponse> users = userService.getAllUsers(search, filter, pageable, total, fieldSet);
+        return ResponseEntity.ok().eTag(etag).body(ResponseWrapper.success(users));
+    }
+
+    // Selected instead of the offset listing whenever a cursor parameter is present (empty for the first page)
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ResponseWrapper<CursorPage<UserResponse>>> getAllUsersByCursor(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) String fields,
+            UserFilter filter,
+            WebRequest webRequest) {
+        // Bound only to refuse them: the keyset query does not apply filters, and dropping them would return everyone
+        if (filter.hasCriteria()) {
+            throw new IllegalArgumentException("Filters (department, designation, role, employmentType, isActive, "
+                    + "joinedFrom, joinedTo) are not supported with cursor pagination; use page/size instead");
+        }
+        UserFieldSet fieldSet = selectFields(fields, webRequest);
+        String etag = collectionETag(webRequest);
+        if (matchesIfNoneMatch(webRequest, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        CursorPage<UserResponse> users =
+                userService.getUsersByCursor(search, sortBy, sortDir, cursor, size, fieldSet);
+        return ResponseEntity.ok().eTag(etag).body(ResponseWrapper.success(users));
+    }
+
+    // Changes whenever any user row is written or the query parameters differ. The write count is
+    // taken at commit, so it also catches last-login flushes and commits older than max(updated_at)
+    private String collectionETag(WebRequest webRequest) {
+        long micros = toMicros(userService.getUsersLastUpdatedAt());
+        long writes = userService.getUsersWriteCount();
+        StringBuilder query = new StringBuilder();
+        new TreeMap<>(webRequest.getParameterMap()).forEach((name, values) ->
+                query.append(name).append('=').append(String.join(",", values)).append('&'));
+        return "\"" + Long.toHexString(micros) + "-" + Long.toHexString(writes)
+                + "-" + Integer.toHexString(query.toString().hashCode()) + "\"";
+    }
+
+    private static long toMicros(LocalDateTime timestamp) {
+        return timestamp == null ? 0 : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), timestamp);
+    }
+
+    // Weak comparison, as If-None-Match requires
+    private static boolean matchesIfNoneMatch(WebRequest webRequest, String etag) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The part before the first '-' is always the version; lastLogin follows since logins do not
+    // bump it, and a sparse representation gets its own suffix
+    private static String entityETag(long version, LocalDateTime lastLogin, UserFieldSet fields) {
+        String tag = version + "-" + Long.toHexString(toMicros(lastLogin));
+        if (!fields.isAll()) {
+            String names = String.join(",", new TreeSet<>(fields.getNames()));
+            tag += "-" + Integer.toHexString(names.hashCode());
+        }
+        return "\"" + tag + "\"";
+    }
+
+    // Stored for UserFieldsResponseBodyAdvice, which trims the serialized UserResponse objects
+    private static UserFieldSet selectFields(String fields, WebRequest webRequest) {
+        UserFieldSet fieldSet = UserFieldSet.parse(fields);
+        webRequest.setAttribute(UserFieldSet.REQUEST_ATTRIBUTE, fieldSet, RequestAttributes.SCOPE_REQUEST);
+        return fieldSet;
+    }
+
+    // Strong comparison against a single entity tag; "*" matches any existing user
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong entity tag");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int dash = value.indexOf('-');
+        try {
+            return Long.parseLong(dash >= 0 ? value.substring(0, dash) : value);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current entity tag");
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+
+        StreamingResponseBody body = csv
+                ? out -> userExportService.exportCsv(search, out)
+                : out -> userExportService.exportNdjson(search, out);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=users." + (csv ? "csv" : "ndjson"))
+                .body(body);
+    }
+
+    @GetMapping("/headcount")
+    public ResponseEntity<ResponseWrapper<HeadcountResponse>> getHeadcount() {
+        return ResponseEntity.ok(ResponseWrapper.success(userService.getHeadcount()));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ResponseWrapper<List<UserSuggestion>>> suggestUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<UserSuggestion> suggestions = userService.suggestUsers(q, Math.min(limit, 50));
+        return ResponseEntity.ok(ResponseWrapper.success(suggestions));
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<ResponseWrapper<BatchGetUsersResponse>> getUsersByIds(
+            @Valid @RequestBody BatchGetUsersRequest request) {
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        BatchGetUsersResponse users = userService.getUsersByIds(request.getIds(), currentUser);
         return ResponseEntity.ok(ResponseWrapper.success(users));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseWrapper<UserResponse>> getUserById(@PathVariable Long id) {
-        String currentUserEmail = userService.getCurrentUserEmail();
-        UserResponse userResponse = userService.getUserById(id, currentUserEmail);
-        return ResponseEntity.ok(ResponseWrapper.success(userResponse));
+    public ResponseEntity<ResponseWrapper<UserResponse>> getUserById(@PathVariable Long id,
+                                                                    @RequestParam(required = false) String fields,
+                                                                    WebRequest webRequest) {
+        UserFieldSet fieldSet = selectFields(fields, webRequest);
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        // Revalidation is answered from the version column, before the entity is loaded or serialized
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            UserVersion version = userService.getUserVersion(id, currentUser);
+            String etag = entityETag(version.version(), version.lastLogin(), fieldSet);
+            if (matchesIfNoneMatch(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        UserResponse userResponse = userService.getUserById(id, currentUser, fieldSet);
+        return ResponseEntity.ok()
+                .eTag(entityETag(userResponse.getVersion(), userResponse.getLastLogin(), fieldSet))
+                .body(ResponseWrapper.success(userResponse));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ResponseWrapper<UserResponse>> updateUser(@PathVariable Long id, 
-                                                                   @Valid @RequestBody UpdateUserRequest request) {
-        String currentUserEmail = userService.getCurrentUserEmail();
-        UserResponse userResponse = userService.updateUser(id, request, currentUserEmail);
-        return ResponseEntity.ok(ResponseWrapper.success("User updated successfully", userResponse));
+                                                                   @Valid @RequestBody UpdateUserRequest request,
+                                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AuthenticatedUser currentUser = userService.getCurrentUser();
+        UserResponse userResponse = userService.updateUser(id, request, currentUser, parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(entityETag(userResponse.getVersion(), userResponse.getLastLogin(), UserFieldSet.ALL))
+                .body(ResponseWrapper.success("User updated successfully", userResponse));
     }
 
     @DeleteMapping("/{id}")
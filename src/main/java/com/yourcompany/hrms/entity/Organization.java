@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -14,8 +16,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = Organization.CACHE_REGION)
 public class Organization {
 
+    public static final String CACHE_REGION = "organizations";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id = 1L;
@@ -12,6 +12,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Builder
@@ -19,8 +21,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = Role.CACHE_REGION)
 public class Role {
 
+    public static final String CACHE_REGION = "roles";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,20 @@
+package com.yourcompany.hrms.entity.user;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetUsersRequest {
+
+    @NotEmpty(message = "Ids are required")
+    private List<@NotNull(message = "Ids must not contain null") Long> ids;
+}
@@ -0,0 +1,18 @@
+package com.yourcompany.hrms.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetUsersResponse {
+
+    private List<UserResponse> users;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,20 @@
+package com.yourcompany.hrms.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkImportRowResult> rows;
+}
@@ -0,0 +1,30 @@
+package com.yourcompany.hrms.entity.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkImportRowResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    // 1-based position in the JSON array, or data line number in the CSV (header excluded)
+    private int row;
+    private String email;
+    private Status status;
+    private Long id;
+    private String employeeCode;
+    private List<String> errors;
+}
@@ -0,0 +1,19 @@
+package com.yourcompany.hrms.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateResponse {
+
+    private int matched;
+    private int updated;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,40 @@
+package com.yourcompany.hrms.entity.user;
+
+import com.yourcompany.hrms.entity.EmploymentType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateUsersRequest {
+
+    private List<@NotNull(message = "Ids must not contain null") Long> ids;
+
+    private UserFilter filter;
+
+    private String department;
+
+    private String designation;
+
+    private EmploymentType employmentType;
+
+    private String roleName;
+
+    private Boolean isActive;
+
+    public BulkUserSelection toSelection() {
+        return new BulkUserSelection(ids, filter);
+    }
+
+    public boolean hasChanges() {
+        return department != null || designation != null || employmentType != null
+                || roleName != null || isActive != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.yourcompany.hrms.entity.user;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The users a bulk operation applies to: either an explicit id list or a filter with at least one criterion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserSelection {
+
+    private List<@NotNull(message = "Ids must not contain null") Long> ids;
+
+    private UserFilter filter;
+}
@@ -0,0 +1,25 @@
+package com.yourcompany.hrms.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountResponse {
+
+    private long total;
+    private long active;
+    private long inactive;
+    // Breakdowns below count active users only
+    private Map<String, Long> byDepartment;
+    private Map<String, Long> byRole;
+    private Map<String, Long> byEmploymentType;
+    private LocalDateTime lastReconciledAt;
+}
@@ -11,19 +11,49 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset pagination seeks on (sort column, id)
+        @Index(name = "idx_users_full_name_id", columnList = "full_name, id"),
+        @Index(name = "idx_users_email_id", columnList = "email, id"),
+        @Index(name = "idx_users_employee_code_id", columnList = "employee_code, id"),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        // Structured filters on GET /api/users
+        @Index(name = "idx_users_department_active", columnList = "department, is_active"),
+        @Index(name = "idx_users_designation_active", columnList = "designation, is_active"),
+        @Index(name = "idx_users_role_active", columnList = "role_id, is_active"),
+        @Index(name = "idx_users_employment_type_active", columnList = "employment_type, is_active"),
+        @Index(name = "idx_users_doj", columnList = "doj"),
+        // Collection ETag watermark: max(updated_at) is a single backward index probe
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User {
 
+    // Second-level cache regions; rows written with plain JDBC must be evicted from CACHE_REGION
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-natural-id";
+
+    // Pooled sequence instead of IDENTITY so inserts can be JDBC-batched; each nextval reserves a block of ids
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_generator")
+    @SequenceGenerator(name = "users_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(name = "email", nullable = false, unique = true, length = 320)
     private String email;
 
@@ -69,7 +99,8 @@ public class User {
     @Column(name = "doj")
     private LocalDate dateOfJoining;
 
-    @Column(name = "last_login")
+    // Written only by LastLoginRecorder, which does not bump version; an entity update must not write back a stale value
+    @Column(name = "last_login", updatable = false)
     private LocalDateTime lastLogin;
 
     @Enumerated(EnumType.STRING)
@@ -81,11 +112,25 @@ public class User {
     @Column(name = "profile_image_url")
     private String profileImageUrl;
 
+    // Incremented on every write, including the JDBC bulk paths; the entity ETag is derived from it
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint not null default 0")
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @PrePersist
     private void onCreate() {
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    private void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
 
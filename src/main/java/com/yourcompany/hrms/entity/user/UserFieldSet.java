@@ -0,0 +1,81 @@
+package com.yourcompany.hrms.entity.user;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link UserResponse} properties a client asked for with {@code fields=}. Besides trimming
+ * the JSON, it tells the repository which associations to fetch: {@code createdByFullName} is
+ * the only property that needs a join, since role and organization names come from the
+ * reference-data registry. {@code createdById} is read from the foreign key without loading the row.
+ */
+public final class UserFieldSet {
+
+    public static final String FILTER_ID = "userFields";
+    public static final String REQUEST_ATTRIBUTE = UserFieldSet.class.getName();
+
+    private static final Set<String> PROPERTIES = Set.of(
+            "id", "email", "fullName", "phone", "employeeCode", "isActive", "createdAt", "createdById",
+            "createdByFullName", "roleName", "orgId", "organizationName", "username", "department",
+            "designation", "dateOfJoining", "employmentType", "lastLogin", "profileImageUrl", "version");
+
+    private static final Map<String, String> ASSOCIATIONS = Map.of("createdByFullName", "createdBy");
+
+    public static final UserFieldSet ALL = new UserFieldSet(PROPERTIES, true);
+
+    private final Set<String> names;
+    private final boolean all;
+
+    private UserFieldSet(Set<String> names, boolean all) {
+        this.names = names;
+        this.all = all;
+    }
+
+    /**
+     * Parses a comma-separated list of property names; null or blank means every property.
+     * The id is always included.
+     */
+    public static UserFieldSet parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!PROPERTIES.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown field: " + trimmed);
+            }
+            names.add(trimmed);
+        }
+        return new UserFieldSet(Set.copyOf(names), names.containsAll(PROPERTIES));
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public Set<String> getNames() {
+        return names;
+    }
+
+    public boolean includes(String name) {
+        return all || names.contains(name);
+    }
+
+    /**
+     * User associations that must be fetched to fill the requested properties.
+     */
+    public String[] associations() {
+        List<String> associations = ASSOCIATIONS.entrySet().stream()
+                .filter(entry -> includes(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        return associations.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,38 @@
+package com.yourcompany.hrms.entity.user;
+
+import com.yourcompany.hrms.entity.EmploymentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserFilter {
+
+    private String department;
+
+    private String designation;
+
+    private String role;
+
+    private EmploymentType employmentType;
+
+    private Boolean isActive;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedTo;
+
+    public boolean hasCriteria() {
+        return department != null || designation != null || role != null || employmentType != null
+                || isActive != null || joinedFrom != null || joinedTo != null;
+    }
+}
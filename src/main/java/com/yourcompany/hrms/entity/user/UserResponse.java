@@ -3,6 +3,7 @@ package com.yourcompany.hrms.entity.user;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.yourcompany.hrms.entity.EmploymentType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(UserFieldSet.FILTER_ID)
 public class UserResponse {
 
     private Long id;
@@ -34,5 +36,6 @@ public class UserResponse {
     private EmploymentType employmentType;
     private LocalDateTime lastLogin;
     private String profileImageUrl;
+    private Long version;
 
 }
\ No newline at end of file
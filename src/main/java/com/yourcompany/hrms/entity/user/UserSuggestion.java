@@ -0,0 +1,20 @@
+package com.yourcompany.hrms.entity.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSuggestion {
+
+    private Long id;
+    private String fullName;
+    private String email;
+    private String employeeCode;
+    private String designation;
+    private String profileImageUrl;
+}
@@ -1,8 +1,10 @@
 package com.yourcompany.hrms.exception;
 
 import com.yourcompany.hrms.config.ResponseWrapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -64,6 +66,26 @@ public class GlobalExceptionHandler {
                 .body(ResponseWrapper.error("Invalid credentials"));
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ResponseWrapper<Object>> handleServiceBusyException(ServiceBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ResponseWrapper.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ResponseWrapper<Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ResponseWrapper.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ResponseWrapper<Object>> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ResponseWrapper.error("The resource was modified concurrently, reload it and retry"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ResponseWrapper<Object>> handleGenericException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
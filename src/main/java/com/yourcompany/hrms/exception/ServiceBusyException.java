@@ -0,0 +1,14 @@
+package com.yourcompany.hrms.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -12,7 +12,7 @@ public class JwtConfig {
     @Value("${jwt.secret}")
     private String secret;
 
-    @Value("${jwt.expiration-seconds:86400}")
+    @Value("${jwt.expiration-seconds:900}")
     private Long expirationSeconds;
 
     @Bean
@@ -0,0 +1,23 @@
+package com.yourcompany.hrms.jwt;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Claims extracted from a token whose signature and expiry have already been verified.
+ * {@code tokenId}, {@code userId} and {@code orgId} are null for tokens issued before the "jti",
+ * "uid" and "org" claims were introduced.
+ */
+public record JwtPrincipal(String tokenId, String username, Long userId, String role, Long orgId,
+                           Instant issuedAt, Instant expiresAt)
+        implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt.toEpochMilli() <= nowMillis;
+    }
+}
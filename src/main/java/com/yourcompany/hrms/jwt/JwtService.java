@@ -2,10 +2,12 @@ package com.yourcompany.hrms.jwt;
 
 import com.yourcompany.hrms.entity.user.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,12 +20,16 @@ public class JwtService {
 
     private final SecretKey secretKey;
     private final Long expirationSeconds;
+    private final JwtParser jwtParser;
 
     public JwtService(
             SecretKey secretKey,
-            @Value("${jwt.expiration-seconds:86400}") Long expirationSeconds) {
+            @Value("${jwt.expiration-seconds:900}") Long expirationSeconds) {
         this.secretKey = secretKey;
         this.expirationSeconds = expirationSeconds;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
 //    public String generateToken(User userDetails) {
@@ -35,6 +41,10 @@ public class JwtService {
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", user.getRole().getName().name()); // ADMIN / HR / EMPLOYEE
+        claims.put("uid", user.getId());
+        if (user.getOrganization() != null) {
+            claims.put("org", user.getOrganization().getId());
+        }
         return createToken(claims, user.getEmail());
     }
 
@@ -45,6 +55,7 @@ public class JwtService {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiration)
@@ -66,20 +77,35 @@ public class JwtService {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies the signature and expiry of the token in a single parse.
+     * Throws a {@link io.jsonwebtoken.JwtException} if the token is invalid or expired.
+     */
+    public JwtPrincipal verify(String token) {
+        Claims claims = extractAllClaims(token);
+        return new JwtPrincipal(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("uid", Long.class),
+                claims.get("role", String.class),
+                claims.get("org", Long.class),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
+    }
+
+    public Long getExpirationSeconds() {
+        return expirationSeconds;
     }
 
     public Boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final JwtPrincipal principal = verify(token);
+        return (principal.username().equals(userDetails.getUsername())
+                && !principal.isExpired(System.currentTimeMillis()));
     }
 }
 
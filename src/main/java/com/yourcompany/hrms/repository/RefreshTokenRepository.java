@@ -0,0 +1,42 @@
+package com.yourcompany.hrms.repository;
+
+import com.yourcompany.hrms.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("""
+    SELECT r FROM RefreshToken r
+    JOIN FETCH r.user u
+    LEFT JOIN FETCH u.organization
+    LEFT JOIN FETCH u.role
+    LEFT JOIN FETCH u.createdBy
+    WHERE r.tokenHash = :tokenHash
+""")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    // Returns 0 when the token was already revoked, i.e. it lost a rotation race or is being replayed
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revoke(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.user.id = :userId AND r.revokedAt IS NULL")
+    int revokeAllForUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.user.id IN :userIds AND r.revokedAt IS NULL")
+    int revokeAllForUsers(@Param("userIds") Collection<Long> userIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,31 +2,116 @@ package com.yourcompany.hrms.repository;
 
 import com.yourcompany.hrms.entity.RoleName;
 import com.yourcompany.hrms.entity.user.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+        UserRepositoryCustom {
 
-    Optional<User> findByEmail(String email);
+    // Must stay identical to the expression indexed by UserSearchIndexInitializer
+    String SEARCH_DOCUMENT = "lower(coalesce(full_name, '') || ' ' || coalesce(email, '') || ' ' || "
+            + "coalesce(employee_code, '') || ' ' || coalesce(department, '') || ' ' || coalesce(designation, ''))";
+
+    String SEARCH_PREDICATE = "(search_vector @@ websearch_to_tsquery('simple', :search) "
+            + "OR " + SEARCH_DOCUMENT + " LIKE '%' || lower(:search) || '%')";
+
+    @Query("SELECT new com.yourcompany.hrms.repository.UserVersion(u.version, u.lastLogin) FROM User u WHERE u.id = :id")
+    Optional<UserVersion> findVersionById(@Param("id") Long id);
+
+    // Watermark for collection ETags; served from idx_users_updated_at
+    @Query("SELECT MAX(u.updatedAt) FROM User u")
+    LocalDateTime findLastUpdatedAt();
+
+    /**
+     * Rows inserted, updated or deleted in users since statistics were last reset. Counted at
+     * commit, so it moves for transactions whose updated_at is older than the current maximum
+     * and for last-login flushes, which leave updated_at alone.
+     */
+    @Query(value = "SELECT n_tup_ins + n_tup_upd + n_tup_del FROM pg_stat_user_tables "
+            + "WHERE relid = 'users'::regclass", nativeQuery = true)
+    Long findWriteCount();
+
+    @Override
+    @EntityGraph(attributePaths = {"createdBy"})
+    Page<User> findAll(Specification<User> specification, Pageable pageable);
 
     List<User> findByCreatedById(Long createdById);
 
     @Query("SELECT u FROM User u WHERE u.role.name = :roleName")
     List<User> findAllByRoleName(@Param("roleName") RoleName roleName);
 
+    // createdBy is joined in the page query instead of loaded per row; role and organization
+    // names come from ReferenceDataRegistry
+    @EntityGraph(attributePaths = {"createdBy"})
     @Query("SELECT u FROM User u WHERE " +
            "(:search IS NULL OR :search = '' OR " +
            "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<User> findAllWithSearch(@Param("search") String search, Pageable pageable);
 
+    // Same as findAllWithSearch without the COUNT query; fetches size + 1 rows to detect a next page
+    @EntityGraph(attributePaths = {"createdBy"})
+    @Query("SELECT u FROM User u WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Slice<User> findSliceWithSearch(@Param("search") String search, Pageable pageable);
+
+    /**
+     * Full-text and trigram search ranked by relevance; requires the pg_trgm extension and the
+     * search_vector column. The pageable must be unsorted since results are ordered by rank.
+     */
+    @Query(value = "SELECT * FROM users WHERE " + SEARCH_PREDICATE
+            + " ORDER BY ts_rank(search_vector, websearch_to_tsquery('simple', :search)) DESC, "
+            + "similarity(" + SEARCH_DOCUMENT + ", lower(:search)) DESC, id",
+            countQuery = "SELECT count(*) FROM users WHERE " + SEARCH_PREDICATE,
+            nativeQuery = true)
+    Page<User> searchRanked(@Param("search") String search, Pageable pageable);
+
+    @Query(value = "SELECT * FROM users WHERE " + SEARCH_PREDICATE
+            + " ORDER BY ts_rank(search_vector, websearch_to_tsquery('simple', :search)) DESC, "
+            + "similarity(" + SEARCH_DOCUMENT + ", lower(:search)) DESC, id",
+            nativeQuery = true)
+    Slice<User> searchRankedSlice(@Param("search") String search, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    @Query("SELECT u FROM User u WHERE u.isActive = true")
+    List<User> findAllActive();
+
+    @Query("SELECT u.department, COUNT(u) FROM User u WHERE u.isActive = true GROUP BY u.department")
+    List<Object[]> countActiveByDepartment();
+
+    @Query("SELECT u.role.name, COUNT(u) FROM User u WHERE u.isActive = true GROUP BY u.role.name")
+    List<Object[]> countActiveByRole();
+
+    @Query("SELECT u.employmentType, COUNT(u) FROM User u WHERE u.isActive = true GROUP BY u.employmentType")
+    List<Object[]> countActiveByEmploymentType();
+
+    @Query("SELECT u.isActive, COUNT(u) FROM User u GROUP BY u.isActive")
+    List<Object[]> countByActive();
+
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false")
+    List<Long> findInactiveUserIds();
+
     Optional<User> findTopByEmployeeCodeStartingWithOrderByEmployeeCodeDesc(String prefix);
 
 
@@ -34,6 +119,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmployeeCode(String employeeCode);
 
+    boolean existsByEmployeeCode(String employeeCode);
+
+    @Query("SELECT u FROM User u JOIN FETCH u.role WHERE u.email = :email")
+    Optional<User> findByEmailWithRole(@Param("email") String email);
+
     @Query("""
     SELECT u FROM User u
     LEFT JOIN FETCH u.organization
@@ -43,6 +133,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
 """)
     Optional<User> findByEmailWithAllRelations(@Param("email") String email);
 
+    @Query("""
+    SELECT u FROM User u
+    LEFT JOIN FETCH u.organization
+    LEFT JOIN FETCH u.role
+    LEFT JOIN FETCH u.createdBy
+    WHERE u.id = :id
+""")
+    Optional<User> findByIdWithAllRelations(@Param("id") Long id);
+
+    // Role and organization names come from ReferenceDataRegistry, so only createdBy is joined
+    @Query("""
+    SELECT u FROM User u
+    LEFT JOIN FETCH u.createdBy
+    WHERE u.id IN :ids
+""")
+    List<User> findAllByIdWithCreatedBy(@Param("ids") Collection<Long> ids);
+
 
 
 
@@ -0,0 +1,51 @@
+package com.yourcompany.hrms.repository;
+
+import com.yourcompany.hrms.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Keyset page: up to {@code limit} users ordered by (sortKey, id) that come strictly after
+     * (lastValue, lastId) in that order. Pass a null lastId for the first page.
+     */
+    List<User> findPageAfter(String search, UserSortKey sortKey, boolean descending,
+                             Object lastValue, Long lastId, int limit);
+
+    /**
+     * Specification query without the COUNT: fetches one row past the page to detect a next page.
+     */
+    Slice<User> findSlice(Specification<User> specification, Pageable pageable);
+
+    /**
+     * As {@link #findSlice(Specification, Pageable)}, fetching only the given User associations.
+     */
+    Slice<User> findSlice(Specification<User> specification, Pageable pageable, String... associations);
+
+    /**
+     * Specification page with a COUNT, fetching only the given User associations.
+     */
+    Page<User> findPage(Specification<User> specification, Pageable pageable, String... associations);
+
+    /**
+     * User by email, resolved through the natural-id cache and then the entity cache, so a warm
+     * lookup issues no query.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Single user fetching only the given associations.
+     */
+    Optional<User> findByIdFetching(Long id, String... associations);
+
+    /**
+     * Ids of the users matching the specification, in id order, at most {@code limit} of them.
+     */
+    List<Long> findIds(Specification<User> specification, int limit);
+}
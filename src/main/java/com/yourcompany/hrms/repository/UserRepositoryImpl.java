@@ -0,0 +1,156 @@
+package com.yourcompany.hrms.repository;
+
+import com.yourcompany.hrms.entity.user.User;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    // The only association UserResponse reads from the database; role and organization come from ReferenceDataRegistry
+    private static final String[] RESPONSE_ASSOCIATIONS = {"createdBy"};
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> findPageAfter(String search, UserSortKey sortKey, boolean descending,
+                                    Object lastValue, Long lastId, int limit) {
+        String column = sortKey.getColumn();
+        String comparator = descending ? "<" : ">";
+        String direction = descending ? "DESC" : "ASC";
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM users WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+
+        if (search != null && !search.isBlank()) {
+            sql.append(" AND (lower(full_name) LIKE ? OR lower(email) LIKE ?)");
+            String pattern = "%" + search.trim().toLowerCase() + "%";
+            params.add(pattern);
+            params.add(pattern);
+        }
+
+        if (lastId != null) {
+            // Row-value comparison lets PostgreSQL seek straight into the (column, id) index
+            if (sortKey == UserSortKey.ID) {
+                sql.append(" AND id ").append(comparator).append(" ?");
+            } else {
+                sql.append(" AND (").append(column).append(", id) ").append(comparator).append(" (?, ?)");
+                params.add(lastValue);
+            }
+            params.add(lastId);
+        }
+
+        sql.append(" ORDER BY ");
+        if (sortKey != UserSortKey.ID) {
+            sql.append(column).append(' ').append(direction).append(", ");
+        }
+        sql.append("id ").append(direction).append(" LIMIT ?");
+        params.add(limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), User.class);
+        for (int i = 0; i < params.size(); i++) {
+            query.setParameter(i + 1, params.get(i));
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Slice<User> findSlice(Specification<User> specification, Pageable pageable) {
+        return findSlice(specification, pageable, RESPONSE_ASSOCIATIONS);
+    }
+
+    @Override
+    public Slice<User> findSlice(Specification<User> specification, Pageable pageable, String... associations) {
+        List<User> rows = pageQuery(specification, pageable, associations)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Page<User> findPage(Specification<User> specification, Pageable pageable, String... associations) {
+        List<User> rows = pageQuery(specification, pageable, associations)
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(specification));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    @Override
+    public Optional<User> findByIdFetching(Long id, String... associations) {
+        return Optional.ofNullable(entityManager.find(User.class, id,
+                Map.of("jakarta.persistence.fetchgraph", graph(associations))));
+    }
+
+    private TypedQuery<User> pageQuery(Specification<User> specification, Pageable pageable, String... associations) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> criteria = cb.createQuery(User.class);
+        Root<User> root = criteria.from(User.class);
+        criteria.select(root).where(specification.toPredicate(root, criteria, cb));
+        if (pageable.getSort().isSorted()) {
+            criteria.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        return entityManager.createQuery(criteria)
+                .setHint("jakarta.persistence.fetchgraph", graph(associations))
+                .setFirstResult((int) pageable.getOffset());
+    }
+
+    private long count(Specification<User> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = cb.createQuery(Long.class);
+        Root<User> root = criteria.from(User.class);
+        criteria.select(cb.count(root)).where(specification.toPredicate(root, criteria, cb));
+        return entityManager.createQuery(criteria).getSingleResult();
+    }
+
+    private EntityGraph<User> graph(String... associations) {
+        EntityGraph<User> graph = entityManager.createEntityGraph(User.class);
+        if (associations.length > 0) {
+            graph.addAttributeNodes(associations);
+        }
+        return graph;
+    }
+
+    @Override
+    public List<Long> findIds(Specification<User> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = cb.createQuery(Long.class);
+        Root<User> root = criteria.from(User.class);
+        criteria.select(root.get("id"))
+                .where(specification.toPredicate(root, criteria, cb))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(criteria)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
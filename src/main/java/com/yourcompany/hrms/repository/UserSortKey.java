@@ -0,0 +1,57 @@
+package com.yourcompany.hrms.repository;
+
+import com.yourcompany.hrms.entity.user.User;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Columns the user listing can be keyset-paginated on. Each is non-null and backed by an
+ * index whose trailing column is id, so a seek on (column, id) is a single index range scan.
+ */
+public enum UserSortKey {
+
+    ID("id", "id", User::getId),
+    FULL_NAME("fullName", "full_name", User::getFullName),
+    EMAIL("email", "email", User::getEmail),
+    EMPLOYEE_CODE("employeeCode", "employee_code", User::getEmployeeCode),
+    CREATED_AT("createdAt", "created_at", User::getCreatedAt);
+
+    private final String property;
+    private final String column;
+    private final Function<User, Object> extractor;
+
+    UserSortKey(String property, String column, Function<User, Object> extractor) {
+        this.property = property;
+        this.column = column;
+        this.extractor = extractor;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public static UserSortKey fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field for cursor pagination: " + property));
+    }
+
+    public String format(User user) {
+        return String.valueOf(extractor.apply(user));
+    }
+
+    public Object parse(String value) {
+        return switch (this) {
+            case ID -> Long.valueOf(value);
+            case CREATED_AT -> LocalDateTime.parse(value);
+            default -> value;
+        };
+    }
+}
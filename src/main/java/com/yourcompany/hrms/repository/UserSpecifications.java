@@ -0,0 +1,60 @@
+package com.yourcompany.hrms.repository;
+
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.entity.user.UserFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * Free-text search plus the structured filter, ANDed together. Only criteria that are
+     * set become predicates, so the planner can pick the matching composite index on users.
+     */
+    public static Specification<User> matching(String search, UserFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (search != null && !search.isBlank()) {
+                String pattern = "%" + search.trim().toLowerCase() + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("fullName")), pattern),
+                        cb.like(cb.lower(root.get("email")), pattern)));
+            }
+
+            if (filter != null) {
+                if (filter.getDepartment() != null) {
+                    predicates.add(cb.equal(root.get("department"), filter.getDepartment()));
+                }
+                if (filter.getDesignation() != null) {
+                    predicates.add(cb.equal(root.get("designation"), filter.getDesignation()));
+                }
+                if (filter.getRole() != null) {
+                    RoleName roleName = RoleName.valueOf(filter.getRole().toUpperCase());
+                    predicates.add(cb.equal(root.get("role").get("name"), roleName));
+                }
+                if (filter.getEmploymentType() != null) {
+                    predicates.add(cb.equal(root.get("employmentType"), filter.getEmploymentType()));
+                }
+                if (filter.getIsActive() != null) {
+                    predicates.add(cb.equal(root.get("isActive"), filter.getIsActive()));
+                }
+                if (filter.getJoinedFrom() != null) {
+                    predicates.add(cb.greaterThanOrEqualTo(root.get("dateOfJoining"), filter.getJoinedFrom()));
+                }
+                if (filter.getJoinedTo() != null) {
+                    predicates.add(cb.lessThanOrEqualTo(root.get("dateOfJoining"), filter.getJoinedTo()));
+                }
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
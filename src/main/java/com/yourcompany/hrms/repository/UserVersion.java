@@ -0,0 +1,10 @@
+package com.yourcompany.hrms.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns a user's entity tag is built from. lastLogin is written without bumping the
+ * version, so the version alone would not change when it does.
+ */
+public record UserVersion(Long version, LocalDateTime lastLogin) {
+}
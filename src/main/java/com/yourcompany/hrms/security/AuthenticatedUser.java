@@ -0,0 +1,30 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.entity.user.User;
+import java.security.Principal;
+
+/**
+ * The caller as placed in the SecurityContext by {@link JwtAuthenticationFilter}: enough to
+ * authorize and attribute a request without loading the user again. Built from token claims
+ * in claims-only mode and from the cached UserDetails otherwise.
+ */
+public record AuthenticatedUser(Long id, String email, RoleName role, Long orgId) implements Principal {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getRole().getName(),
+                user.getOrganization() != null ? user.getOrganization().getId() : null);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isAdminOrHr() {
+        return role == RoleName.ADMIN || role == RoleName.HR;
+    }
+}
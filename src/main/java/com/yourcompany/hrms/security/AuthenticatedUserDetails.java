@@ -0,0 +1,29 @@
+package com.yourcompany.hrms.security;
+
+import java.util.Collection;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * UserDetails that also carries the {@link AuthenticatedUser} built from the same row, so the
+ * DB-backed authentication path can populate the SecurityContext with it.
+ */
+public class AuthenticatedUserDetails extends User {
+
+    private final AuthenticatedUser authenticatedUser;
+
+    public AuthenticatedUserDetails(String password, boolean enabled,
+                                    Collection<? extends GrantedAuthority> authorities,
+                                    AuthenticatedUser authenticatedUser) {
+        super(authenticatedUser.email(), password, enabled, true, true, true, authorities);
+        this.authenticatedUser = authenticatedUser;
+    }
+
+    public AuthenticatedUser getAuthenticatedUser() {
+        return authenticatedUser;
+    }
+
+    public AuthenticatedUserDetails copy() {
+        return new AuthenticatedUserDetails(getPassword(), isEnabled(), getAuthorities(), authenticatedUser);
+    }
+}
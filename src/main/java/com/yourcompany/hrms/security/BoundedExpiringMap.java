@@ -0,0 +1,121 @@
+package com.yourcompany.hrms.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent map whose entries carry their own expiry time, shared by the in-memory security
+ * caches. When full it drops expired entries first, then arbitrary entries until there is ~10%
+ * headroom. Hits, misses and evictions are counted and exported under a caller-chosen prefix.
+ */
+public class BoundedExpiringMap<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedExpiringMap(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * The live value for the key, or null (counted as a miss) if there is none or it has expired.
+     */
+    public V get(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(K key, V value, long expiresAt, long now) {
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void remove(K key) {
+        if (key != null && entries.remove(key) != null) {
+            evictions.increment();
+        }
+    }
+
+    // Removes the mapping only while it still holds this exact value
+    public void remove(K key, V value) {
+        entries.computeIfPresent(key, (k, entry) -> entry.value() == value ? null : entry);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.entrySet().removeIf(entry -> {
+                if (entry.getValue().expiresAt() <= now) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            });
+
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<K> keys = entries.keySet().iterator();
+            while (entries.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public void bindTo(MeterRegistry registry, String prefix) {
+        FunctionCounter.builder(prefix + ".hits", hits, LongAdder::sum).register(registry);
+        FunctionCounter.builder(prefix + ".misses", misses, LongAdder::sum).register(registry);
+        FunctionCounter.builder(prefix + ".evictions", evictions, LongAdder::sum).register(registry);
+        Gauge.builder(prefix + ".size", entries, Map::size).register(registry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.exception.ServiceBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt encoder that runs every hash on a small dedicated pool instead of the request thread.
+ * When the pool's queue is full, callers fail fast with {@link ServiceBusyException} rather than
+ * piling up behind the CPU, which keeps ordinary requests responsive during login storms.
+ * <p>
+ * The cost factor is picked at startup by {@link #calibrate} so one hash takes roughly the
+ * configured target latency on this host. Stored hashes with a different cost are reported by
+ * {@link #upgradeEncoding}, which makes the authentication provider rehash them on the next login.
+ */
+@Slf4j
+public class BulkheadPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer hashTimer;
+
+    public BulkheadPasswordEncoder(int strength, int threads, int queueCapacity, long retryAfterSeconds) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Returns the highest cost in [minStrength, maxStrength] whose hash time stays at or below
+     * the target, extrapolated from a measurement at minStrength (each step doubles the work).
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration-warmup");
+
+        int samples = 3;
+        long start = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            probe.encode("calibration-sample-" + i);
+        }
+        double baseMillis = Math.max(0.001, (System.nanoTime() - start) / 1_000_000.0 / samples);
+
+        int strength = minStrength;
+        while (strength < maxStrength && baseMillis * (1L << (strength + 1 - minStrength)) <= targetMillis) {
+            strength++;
+        }
+
+        log.info("BCrypt calibrated: cost {} at ~{} ms per hash (target {} ms, cost {} measured at {} ms)",
+                strength, Math.round(baseMillis * (1L << (strength - minStrength))),
+                targetMillis, minStrength, Math.round(baseMillis));
+        return strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer cost = costOf(encodedPassword);
+        return cost != null && cost != strength;
+    }
+
+    // BCrypt hashes look like $2a$10$..., the two digits after the version are the cost
+    private static Integer costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return null;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 0 || costStart + 2 > encodedPassword.length()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Timer timer = hashTimer;
+        Callable<T> timed = timer != null ? () -> timer.recordCallable(task) : task;
+
+        Future<T> future;
+        try {
+            future = executor.submit(timed);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Server is busy, please retry shortly", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        hashTimer = Timer.builder("hrms.password.hash").register(registry);
+        FunctionCounter.builder("hrms.password.hash.rejected", rejected, LongAdder::sum).register(registry);
+        Gauge.builder("hrms.password.hash.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("hrms.password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+        Gauge.builder("hrms.password.hash.cost", this, BulkheadPasswordEncoder::getStrength).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -1,13 +1,17 @@
 package com.yourcompany.hrms.security;
 
-import com.yourcompany.hrms.jwt.JwtService;
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.jwt.JwtPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -18,12 +22,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserDetailsService userDetailsService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final RevokedTokenStore revokedTokenStore;
+    private final boolean statelessAuth;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(
+            VerifiedTokenCache verifiedTokenCache,
+            UserDetailsService userDetailsService,
+            TokenEpochRegistry tokenEpochRegistry,
+            RevokedTokenStore revokedTokenStore,
+            @Value("${jwt.stateless-auth:false}") boolean statelessAuth) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.userDetailsService = userDetailsService;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.revokedTokenStore = revokedTokenStore;
+        this.statelessAuth = statelessAuth;
     }
 
     @Override
@@ -44,14 +59,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            username = jwtService.extractUsername(jwt);
+            JwtPrincipal principal = verifiedTokenCache.verify(jwt);
+            username = principal.username();
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (revokedTokenStore.isRevoked(principal)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                    && statelessAuth && principal.userId() != null && principal.role() != null) {
+                // Claims-only mode: authorities come straight from the verified token
+                if (tokenEpochRegistry.isCurrent(principal.userId(), principal.issuedAt())) {
+                    AuthenticatedUser authenticatedUser = new AuthenticatedUser(
+                            principal.userId(), username, RoleName.valueOf(principal.role()), principal.orgId());
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            authenticatedUser,
+                            null,
+                            List.of(new SimpleGrantedAuthority("ROLE_" + principal.role())));
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
+            } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (username.equals(userDetails.getUsername())) {
+                    Object authenticatedPrincipal = userDetails instanceof AuthenticatedUserDetails details
+                            ? details.getAuthenticatedUser()
+                            : userDetails;
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            authenticatedPrincipal,
                             null,
                             userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,144 @@
+package com.yourcompany.hrms.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.hrms.config.ResponseWrapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rate limits POST /api/auth/login per client address and per email before the request
+ * reaches Spring Security, so rejected attempts cost neither a bcrypt hash nor a query.
+ * Client address is {@code request.getRemoteAddr()}; behind a proxy, enable
+ * {@code server.forward-headers-strategy} so it reflects the real client.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoginRateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final TokenBucketRegistry byEmail;
+    private final TokenBucketRegistry byAddress;
+
+    private final LongAdder rejectedByEmail = new LongAdder();
+    private final LongAdder rejectedByAddress = new LongAdder();
+
+    public LoginRateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${security.login-rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.login-rate-limit.per-email.capacity:5}") int emailCapacity,
+            @Value("${security.login-rate-limit.per-email.period-seconds:60}") long emailPeriodSeconds,
+            @Value("${security.login-rate-limit.per-address.capacity:20}") int addressCapacity,
+            @Value("${security.login-rate-limit.per-address.period-seconds:60}") long addressPeriodSeconds,
+            @Value("${security.login-rate-limit.max-keys:100000}") int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.byEmail = new TokenBucketRegistry(emailCapacity, emailPeriodSeconds, maxKeys);
+        this.byAddress = new TokenBucketRegistry(addressCapacity, addressPeriodSeconds, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled
+                || !"POST".equalsIgnoreCase(request.getMethod())
+                || !LOGIN_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        long now = System.nanoTime();
+
+        long wait = byAddress.tryAcquire(request.getRemoteAddr(), now);
+        if (wait > 0) {
+            rejectedByAddress.increment();
+            reject(response, wait);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        String email = extractEmail(body);
+        if (email != null) {
+            wait = byEmail.tryAcquire(email, now);
+            if (wait > 0) {
+                rejectedByEmail.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), response);
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        byEmail.sweep(now);
+        byAddress.sweep(now);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual()
+                    ? email.asText().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException e) {
+            // Malformed body; let the controller report it
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ResponseWrapper.error("Too many login attempts, please retry later"));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("hrms.login.rate-limited", rejectedByEmail, LongAdder::sum)
+                .tag("key", "email").register(registry);
+        FunctionCounter.builder("hrms.login.rate-limited", rejectedByAddress, LongAdder::sum)
+                .tag("key", "address").register(registry);
+        Gauge.builder("hrms.login.rate-limit.keys", byEmail, TokenBucketRegistry::size)
+                .tag("key", "email").register(registry);
+        Gauge.builder("hrms.login.rate-limit.keys", byAddress, TokenBucketRegistry::size)
+                .tag("key", "address").register(registry);
+    }
+}
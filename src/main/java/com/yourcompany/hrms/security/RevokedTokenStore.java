@@ -0,0 +1,88 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.jwt.JwtPrincipal;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory set of revoked access-token IDs ("jti"), bucketed by the token's expiry.
+ * <p>
+ * Buckets live in a fixed ring sized to cover the maximum access-token lifetime, so a
+ * lookup only touches the single bucket the token's expiry maps to, and a bucket is
+ * dropped simply by being overwritten once its tokens have expired. Revocations are
+ * per instance and only need to outlive the short-lived access tokens they cover. A token
+ * expiring beyond the ring (e.g. issued under a longer {@code jwt.expiration-seconds}) cannot
+ * be tracked and is rejected with an exception rather than silently not revoked.
+ */
+@Component
+public class RevokedTokenStore {
+
+    private record Bucket(long id, Set<String> tokenIds) {
+    }
+
+    private final long bucketSeconds;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    public RevokedTokenStore(
+            @Value("${jwt.expiration-seconds:900}") long expirationSeconds,
+            @Value("${jwt.revocation.bucket-seconds:60}") long bucketSeconds) {
+        this.bucketSeconds = bucketSeconds;
+        this.ring = new AtomicReferenceArray<>((int) (expirationSeconds / bucketSeconds) + 2);
+    }
+
+    public void revoke(JwtPrincipal principal) {
+        revoke(principal.tokenId(), principal.expiresAt().getEpochSecond());
+    }
+
+    public boolean isRevoked(JwtPrincipal principal) {
+        return isRevoked(principal.tokenId(), principal.expiresAt().getEpochSecond());
+    }
+
+    public void revoke(String tokenId, long expiresAtEpochSecond) {
+        long now = System.currentTimeMillis() / 1000;
+        if (tokenId == null || expiresAtEpochSecond <= now) {
+            return;
+        }
+        // Live expiries up to this horizon map to distinct slots
+        long horizon = now + (ring.length() - 1) * bucketSeconds;
+        if (expiresAtEpochSecond > horizon) {
+            throw new IllegalStateException("Cannot revoke token " + tokenId + ": it expires after the "
+                    + "revocation window; jwt.expiration-seconds must cover the longest-lived access token");
+        }
+        long id = expiresAtEpochSecond / bucketSeconds;
+        int slot = slotOf(id);
+
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.id() == id) {
+                bucket.tokenIds().add(tokenId);
+                return;
+            }
+            if (bucket != null && bucket.id() > id) {
+                // Unreachable for expiries within the horizon; never drop a revocation silently
+                throw new IllegalStateException("Revocation slot for token " + tokenId + " holds a later window");
+            }
+            Bucket fresh = new Bucket(id, ConcurrentHashMap.newKeySet());
+            fresh.tokenIds().add(tokenId);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return;
+            }
+        }
+    }
+
+    public boolean isRevoked(String tokenId, long expiresAtEpochSecond) {
+        if (tokenId == null) {
+            return false;
+        }
+        long id = expiresAtEpochSecond / bucketSeconds;
+        Bucket bucket = ring.get(slotOf(id));
+        return bucket != null && bucket.id() == id && bucket.tokenIds().contains(tokenId);
+    }
+
+    private int slotOf(long bucketId) {
+        return (int) Math.floorMod(bucketId, (long) ring.length());
+    }
+}
@@ -0,0 +1,74 @@
+package com.yourcompany.hrms.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by an arbitrary string, implemented as GCRA: each bucket is a
+ * single "theoretical arrival time" updated with CAS. A bucket whose arrival time has passed is
+ * full again and carries no state, so it can be dropped; this keeps the map bounded by the
+ * number of keys that are actively being limited.
+ */
+public class TokenBucketRegistry {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public TokenBucketRegistry(int capacity, long periodSeconds, int maxKeys) {
+        this.emissionIntervalNanos = periodSeconds * 1_000_000_000L / capacity;
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 if allowed, otherwise the nanoseconds until a
+     * token becomes available. Keys that cannot be tracked because the registry is full of
+     * active buckets are denied for one emission interval, so flooding the registry with
+     * distinct keys cannot switch the limiter off.
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(nowNanos);
+                if (buckets.size() >= maxKeys) {
+                    return emissionIntervalNanos;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long excess = newTat - nowNanos - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    // Drops buckets that have fully refilled
+    public void sweep(long nowNanos) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(tat -> tat.get() <= nowNanos);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,60 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.repository.UserRepository;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user token epoch used by claims-only authentication. Bumping a user's epoch
+ * invalidates every token issued to them before that moment, so role changes and
+ * deactivations take effect without a database lookup per request.
+ * <p>
+ * Token "iat" claims have whole-second precision, so the epoch is stored as the second after
+ * the bump: a token issued earlier in the bump's second is rejected, at the cost of also
+ * rejecting one issued later in that same second.
+ * <p>
+ * The registry is in-memory and per instance; inactive users are re-seeded from the
+ * database at startup so a restart does not revive their outstanding tokens.
+ */
+@Slf4j
+@Component
+public class TokenEpochRegistry {
+
+    private final UserRepository userRepository;
+    private final boolean statelessAuth;
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    public TokenEpochRegistry(
+            UserRepository userRepository,
+            @Value("${jwt.stateless-auth:false}") boolean statelessAuth) {
+        this.userRepository = userRepository;
+        this.statelessAuth = statelessAuth;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInactiveUsers() {
+        if (!statelessAuth) {
+            return;
+        }
+        long epoch = Instant.now().getEpochSecond() + 1;
+        userRepository.findInactiveUserIds().forEach(id -> epochs.put(id, epoch));
+        log.info("Token epoch registry seeded with {} inactive users", epochs.size());
+    }
+
+    public void bump(Long userId) {
+        if (userId != null) {
+            epochs.merge(userId, Instant.now().getEpochSecond() + 1, Math::max);
+        }
+    }
+
+    public boolean isCurrent(Long userId, Instant issuedAt) {
+        Long epoch = epochs.get(userId);
+        return epoch == null || issuedAt.getEpochSecond() >= epoch;
+    }
+}
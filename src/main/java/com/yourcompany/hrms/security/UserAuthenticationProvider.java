@@ -0,0 +1,79 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.repository.UserRepository;
+import java.util.Collections;
+import java.util.Optional;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Authenticates logins with a single query that also fetches organization, role and createdBy,
+ * and returns the loaded entity in a {@link UserAuthenticationToken} for token and response building.
+ */
+public class UserAuthenticationProvider implements AuthenticationProvider {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+
+    // Hash compared against when the user does not exist, so response time doesn't reveal it
+    private volatile String dummyPasswordHash;
+
+    public UserAuthenticationProvider(UserRepository userRepository,
+                                      PasswordEncoder passwordEncoder,
+                                      UserDetailsCache userDetailsCache) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String email = authentication.getName();
+        String password = authentication.getCredentials() != null
+                ? authentication.getCredentials().toString()
+                : "";
+
+        Optional<User> found = userRepository.findByEmailWithAllRelations(email);
+        if (found.isEmpty() || !found.get().isActive()) {
+            passwordEncoder.matches(password, dummyPasswordHash());
+            throw new BadCredentialsException("Invalid credentials");
+        }
+
+        User user = found.get();
+        if (!passwordEncoder.matches(password, user.getPassword())) {
+            throw new BadCredentialsException("Invalid credentials");
+        }
+
+        // Stored hash uses a different bcrypt cost than the calibrated one
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            String rehashed = passwordEncoder.encode(password);
+            userRepository.updatePasswordByEmail(user.getEmail(), rehashed);
+            userDetailsCache.evict(user.getEmail());
+            user.setPassword(rehashed);
+        }
+
+        return new UserAuthenticationToken(user, Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + user.getRole().getName().name())));
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    private String dummyPasswordHash() {
+        String hash = dummyPasswordHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode("userNotFoundPassword");
+            dummyPasswordHash = hash;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,24 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.entity.user.User;
+import java.util.Collection;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Successful login result that carries the user entity loaded during authentication,
+ * so the caller does not have to query it again.
+ */
+public class UserAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final transient User user;
+
+    public UserAuthenticationToken(User user, Collection<? extends GrantedAuthority> authorities) {
+        super(user.getEmail(), null, authorities);
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+}
@@ -0,0 +1,96 @@
+package com.yourcompany.hrms.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived, bounded cache of {@link UserDetails} keyed by email. Callers always get
+ * a copy, because the authentication manager erases credentials on the instance it returns.
+ * UserService evicts entries when a user's email, role or active flag changes.
+ * <p>
+ * Each eviction bumps an invalidation generation for the email (striped by hash, so collisions
+ * only skip caching). A load that overlaps an eviction is returned but not cached, so a row read
+ * before a change commits cannot be written back after the change's evictions have run.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final BoundedExpiringMap<String, UserDetails> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserDetailsCache(
+            @Value("${security.user-cache.enabled:true}") boolean enabled,
+            @Value("${security.user-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.user-cache.max-size:5000}") int maxSize) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new BoundedExpiringMap<>(maxSize);
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+
+        long now = System.currentTimeMillis();
+        UserDetails cached = entries.get(email, now);
+        if (cached != null) {
+            return copy(cached);
+        }
+
+        int stripe = stripe(email);
+        long generation = generations.get(stripe);
+        UserDetails loaded = loader.apply(email);
+
+        if (generations.get(stripe) == generation) {
+            UserDetails entry = copy(loaded);
+            entries.put(email, entry, now + ttlMillis, now);
+            // An eviction between the check and the put has already bumped the generation
+            if (generations.get(stripe) != generation) {
+                entries.remove(email, entry);
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        generations.incrementAndGet(stripe(email));
+        entries.remove(email);
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        entries.clear();
+    }
+
+    private static int stripe(String email) {
+        return Math.floorMod(email.hashCode(), GENERATION_STRIPES);
+    }
+
+    private static UserDetails copy(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUserDetails authenticated) {
+            return authenticated.copy();
+        }
+        return User.withUserDetails(userDetails).build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        entries.bindTo(registry, "hrms.user-details.cache");
+    }
+}
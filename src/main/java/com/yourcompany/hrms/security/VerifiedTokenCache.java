@@ -0,0 +1,90 @@
+package com.yourcompany.hrms.security;
+
+import com.yourcompany.hrms.jwt.JwtPrincipal;
+import com.yourcompany.hrms.jwt.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of tokens that have already passed signature verification, keyed by
+ * a SHA-256 digest of the raw token. Entries are dropped once the token's own expiry passes.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final JwtService jwtService;
+    private final boolean enabled;
+    private final BoundedExpiringMap<String, JwtPrincipal> entries;
+
+    public VerifiedTokenCache(
+            JwtService jwtService,
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtService = jwtService;
+        this.enabled = enabled;
+        this.entries = new BoundedExpiringMap<>(maxSize);
+    }
+
+    /**
+     * Returns the verified principal for the token, parsing it only on a cache miss.
+     * Throws a {@link io.jsonwebtoken.JwtException} if the token is invalid or expired.
+     */
+    public JwtPrincipal verify(String token) {
+        if (!enabled) {
+            return jwtService.verify(token);
+        }
+
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        JwtPrincipal cached = entries.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtPrincipal principal = jwtService.verify(token);
+        entries.put(key, principal, principal.expiresAt().toEpochMilli(), now);
+        return principal;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return entries.getHits();
+    }
+
+    public long getMisses() {
+        return entries.getMisses();
+    }
+
+    public long getEvictions() {
+        return entries.getEvictions();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        entries.bindTo(registry, "hrms.jwt.cache");
+    }
+}
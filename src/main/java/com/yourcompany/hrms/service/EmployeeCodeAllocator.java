@@ -0,0 +1,144 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.RoleName;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out employee codes (EMP-1001, HR-1001, ADM-1001, ...) from blocks reserved on a
+ * PostgreSQL sequence per prefix. Each sequence increments by the block size, so one nextval
+ * reserves a whole block for this instance and codes within it are handed out from memory
+ * with a single atomic increment. Instances never share a block, so codes are unique across
+ * nodes; codes left in a block at shutdown are simply skipped.
+ * <p>
+ * A sequence is created on first startup, starting after the highest numeric code already
+ * in use for its prefix (compared numerically, so EMP-1000 is above EMP-999). Codes entered by
+ * hand later can fall inside a future block, so each new block is checked against the users
+ * table with one indexed lookup and codes already taken are skipped.
+ */
+@Slf4j
+@Component
+public class EmployeeCodeAllocator implements SmartInitializingSingleton {
+
+    private static final long FIRST_NUMBER = 1001;
+
+    private static final String TAKEN_SQL = "SELECT employee_code FROM users WHERE employee_code = ANY(?)";
+
+    private static final class Block {
+        final AtomicLong next;
+        final long end;
+        final Set<String> taken;
+
+        Block(long start, long end, Set<String> taken) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.taken = taken;
+        }
+    }
+
+    private final class PrefixState {
+        final String prefix;
+        final String sequence;
+        final AtomicReference<Block> block = new AtomicReference<>(new Block(0, 0, Set.of()));
+        volatile long blockSize;
+
+        PrefixState(String prefix) {
+            this.prefix = prefix;
+            this.sequence = "employee_code_" + prefix.replace("-", "").toLowerCase(Locale.ROOT) + "_seq";
+        }
+
+        String next() {
+            while (true) {
+                Block current = block.get();
+                long number = current.next.getAndIncrement();
+                if (number < current.end) {
+                    String code = prefix + number;
+                    if (!current.taken.contains(code)) {
+                        return code;
+                    }
+                    continue;
+                }
+                refill(current);
+            }
+        }
+
+        // Only the thread that still sees the exhausted block fetches a new one; the others retry on it
+        private synchronized void refill(Block exhausted) {
+            if (block.get() != exhausted) {
+                return;
+            }
+            Long start = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+            String[] codes = new String[(int) blockSize];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = prefix + (start + i);
+            }
+            List<String> taken = jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(TAKEN_SQL);
+                statement.setArray(1, connection.createArrayOf("varchar", codes));
+                return statement;
+            }, (rs, rowNum) -> rs.getString(1));
+            if (!taken.isEmpty()) {
+                log.info("Skipping {} employee codes already in use: {}", taken.size(), taken);
+            }
+            block.set(new Block(start, start + blockSize, Set.copyOf(taken)));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private final Map<String, PrefixState> byPrefix = new HashMap<>();
+    private final Map<RoleName, PrefixState> byRole = new EnumMap<>(RoleName.class);
+
+    public EmployeeCodeAllocator(JdbcTemplate jdbcTemplate,
+                                 @Value("${hrms.employee-code.block-size:20}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+        for (RoleName roleName : RoleName.values()) {
+            byRole.put(roleName, byPrefix.computeIfAbsent(prefixFor(roleName), PrefixState::new));
+        }
+    }
+
+    public static String prefixFor(RoleName roleName) {
+        return switch (roleName) {
+            case ADMIN -> "ADM-";
+            case HR -> "HR-";
+            default -> "EMP-";
+        };
+    }
+
+    public String next(RoleName roleName) {
+        return byRole.get(roleName).next();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (PrefixState state : byPrefix.values()) {
+            Long highest = jdbcTemplate.queryForObject(
+                    "SELECT MAX(CAST(substring(employee_code FROM ?) AS bigint)) FROM users WHERE employee_code ~ ?",
+                    Long.class, state.prefix.length() + 1, "^" + state.prefix + "[0-9]{1,18}$");
+            long start = highest != null ? Math.max(highest + 1, FIRST_NUMBER) : FIRST_NUMBER;
+
+            // IF NOT EXISTS: an existing sequence already hands out codes past everything it issued
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + state.sequence
+                    + " START WITH " + start + " INCREMENT BY " + blockSize);
+
+            // Blocks are sized by the sequence itself, so instances configured differently cannot overlap
+            state.blockSize = jdbcTemplate.queryForObject(
+                    "SELECT increment_by FROM pg_sequences WHERE sequencename = ?", Long.class, state.sequence);
+            log.info("Employee codes {} allocated from {} in blocks of {}", state.prefix, state.sequence, state.blockSize);
+        }
+    }
+}
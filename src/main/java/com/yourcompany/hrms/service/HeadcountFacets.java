@@ -0,0 +1,180 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.user.HeadcountResponse;
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory headcount by department, role and employment type (active users) and by active
+ * status. Seeded from GROUP BY queries at startup, then adjusted by UserService after each
+ * committed create/update/delete. A periodic reconciliation replaces the counters with fresh
+ * database counts to correct any drift.
+ * <p>
+ * The reconciliation reads all four counts from one REPEATABLE READ snapshot. Changes reported
+ * while it runs are applied to both the live and the fresh counters, so a change committed after
+ * the snapshot is not lost when the fresh counters are swapped in.
+ */
+@Slf4j
+@Component
+public class HeadcountFacets {
+
+    static final String UNASSIGNED = "UNASSIGNED";
+
+    /**
+     * The attributes of one user that the facets count, captured before and after a change.
+     */
+    public record Key(String department, String role, String employmentType, boolean active) {
+
+        public static Key of(User user) {
+            return new Key(
+                    user.getDepartment(),
+                    user.getRole() != null ? user.getRole().getName().name() : null,
+                    user.getEmploymentType() != null ? user.getEmploymentType().name() : null,
+                    user.isActive());
+        }
+    }
+
+    private record Counters(Map<String, LongAdder> byDepartment,
+                            Map<String, LongAdder> byRole,
+                            Map<String, LongAdder> byEmploymentType,
+                            LongAdder active,
+                            LongAdder inactive) {
+
+        static Counters empty() {
+            return new Counters(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                    new LongAdder(), new LongAdder());
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private volatile Counters counters = Counters.empty();
+    // The counters being loaded by a running reconciliation, or null
+    private volatile Counters reloading;
+    private volatile LocalDateTime lastReconciledAt;
+
+    public HeadcountFacets(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${hrms.headcount.reconcile-interval-ms:900000}",
+            initialDelayString = "${hrms.headcount.reconcile-interval-ms:900000}")
+    public synchronized void reconcile() {
+        Counters fresh = Counters.empty();
+        // Published before the snapshot is taken: changes reported from here on reach fresh as well.
+        // A change committed just before the snapshot but reported after this point is counted twice
+        // until the next reconciliation, which is preferable to losing changes committed after it.
+        reloading = fresh;
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                load(userRepository.countActiveByDepartment(), fresh.byDepartment());
+                load(userRepository.countActiveByRole(), fresh.byRole());
+                load(userRepository.countActiveByEmploymentType(), fresh.byEmploymentType());
+                for (Object[] row : userRepository.countByActive()) {
+                    (Boolean.TRUE.equals(row[0]) ? fresh.active() : fresh.inactive()).add((Long) row[1]);
+                }
+            });
+
+            // Both sides include the changes reported during the load, so any difference is real drift
+            Counters previous = counters;
+            if (lastReconciledAt != null && (previous.active().sum() != fresh.active().sum()
+                    || previous.inactive().sum() != fresh.inactive().sum())) {
+                log.info("Headcount drift corrected: active {} -> {}, inactive {} -> {}",
+                        previous.active().sum(), fresh.active().sum(),
+                        previous.inactive().sum(), fresh.inactive().sum());
+            }
+            counters = fresh;
+            lastReconciledAt = LocalDateTime.now();
+        } finally {
+            reloading = null;
+        }
+    }
+
+    public void onChange(Key before, Key after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        // Read reloading first: if it is null here, the change committed before any snapshot still to come
+        Counters pending = reloading;
+        Counters current = counters;
+        apply(current, before, after);
+        if (pending != null && pending != current) {
+            apply(pending, before, after);
+        }
+    }
+
+    private static void apply(Counters counters, Key before, Key after) {
+        if (before != null) {
+            apply(counters, before, -1);
+        }
+        if (after != null) {
+            apply(counters, after, 1);
+        }
+    }
+
+    public HeadcountResponse snapshot() {
+        Counters current = counters;
+        long active = current.active().sum();
+        long inactive = current.inactive().sum();
+        return HeadcountResponse.builder()
+                .total(active + inactive)
+                .active(active)
+                .inactive(inactive)
+                .byDepartment(toSortedMap(current.byDepartment()))
+                .byRole(toSortedMap(current.byRole()))
+                .byEmploymentType(toSortedMap(current.byEmploymentType()))
+                .lastReconciledAt(lastReconciledAt)
+                .build();
+    }
+
+    private static void apply(Counters counters, Key key, int delta) {
+        (key.active() ? counters.active() : counters.inactive()).add(delta);
+        if (key.active()) {
+            increment(counters.byDepartment(), key.department(), delta);
+            increment(counters.byRole(), key.role(), delta);
+            increment(counters.byEmploymentType(), key.employmentType(), delta);
+        }
+    }
+
+    private static void increment(Map<String, LongAdder> facet, String value, int delta) {
+        facet.computeIfAbsent(value != null ? value : UNASSIGNED, k -> new LongAdder()).add(delta);
+    }
+
+    private static void load(List<Object[]> rows, Map<String, LongAdder> facet) {
+        for (Object[] row : rows) {
+            String value = row[0] != null ? row[0].toString() : UNASSIGNED;
+            facet.computeIfAbsent(value, k -> new LongAdder()).add((Long) row[1]);
+        }
+    }
+
+    private static Map<String, Long> toSortedMap(Map<String, LongAdder> facet) {
+        Map<String, Long> result = new TreeMap<>();
+        facet.forEach((value, count) -> {
+            long sum = count.sum();
+            if (sum != 0) {
+                result.put(value, sum);
+            }
+        });
+        return result;
+    }
+}
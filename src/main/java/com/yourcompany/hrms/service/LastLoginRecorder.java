@@ -0,0 +1,130 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.user.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers login timestamps in memory and writes them to users.last_login in periodic JDBC
+ * batches, so login itself never issues an UPDATE. Repeated logins by the same user between
+ * flushes collapse into one row. When the buffer is full, logins of users not already
+ * buffered are dropped and counted. last_login is not editable state, so it leaves the user's
+ * version and updated_at (and therefore their ETags) alone. Written users are evicted from the
+ * second-level cache, whose copies would otherwise keep the old last-login time.
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder implements MeterBinder {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache entityCache;
+    private final int maxBuffered;
+    private final int batchSize;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile Timer flushTimer;
+
+    public LastLoginRecorder(
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${hrms.last-login.max-buffered:10000}") int maxBuffered,
+            @Value("${hrms.last-login.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityCache = entityManagerFactory.getCache();
+        this.maxBuffered = maxBuffered;
+        this.batchSize = batchSize;
+    }
+
+    public void record(Long userId, LocalDateTime loginTime) {
+        if (userId == null) {
+            return;
+        }
+        if (pending.size() >= maxBuffered && !pending.containsKey(userId)) {
+            dropped.increment();
+            return;
+        }
+        pending.merge(userId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${hrms.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            // Only remove the value we read, so a login arriving meanwhile stays buffered
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                Timestamp timestamp = Timestamp.valueOf(entry.getValue());
+                batch.add(new Object[]{timestamp, entry.getKey(), timestamp});
+            }
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+
+        Timer timer = flushTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            flushed.add(batch.size());
+            for (Object[] args : batch) {
+                entityCache.evict(User.class, args[1]);
+            }
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Failed to flush {} last-login updates", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        flushTimer = Timer.builder("hrms.last-login.flush").register(registry);
+        FunctionCounter.builder("hrms.last-login.flushed", flushed, LongAdder::sum).register(registry);
+        FunctionCounter.builder("hrms.last-login.dropped", dropped, LongAdder::sum).register(registry);
+        FunctionCounter.builder("hrms.last-login.failed", failed, LongAdder::sum).register(registry);
+        Gauge.builder("hrms.last-login.pending", pending, Map::size).register(registry);
+    }
+}
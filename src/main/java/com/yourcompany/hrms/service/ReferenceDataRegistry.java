@@ -0,0 +1,128 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.Organization;
+import com.yourcompany.hrms.entity.Role;
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.repository.OrganizationRepository;
+import com.yourcompany.hrms.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Preloaded roles and organizations. Both tables hold a handful of rows that change out of band,
+ * so they are read once into an immutable snapshot (roles in an array indexed by
+ * {@link RoleName#ordinal()}, organizations in a map by id) and replaced wholesale on refresh.
+ * A lookup miss triggers one synchronous refresh before giving up, at most once per
+ * {@code hrms.reference-data.miss-refresh-min-interval-ms} so lookups of ids that do not exist
+ * cannot turn into a full reload per request; a periodic refresh picks up renames. The cached entities are detached and only used as references and for their names.
+ */
+@Slf4j
+@Component
+public class ReferenceDataRegistry {
+
+    private record Snapshot(Role[] rolesByName, Map<Long, Role> rolesById, Map<Long, Organization> organizations) {
+        static final Snapshot EMPTY = new Snapshot(new Role[RoleName.values().length], Map.of(), Map.of());
+    }
+
+    private final RoleRepository roleRepository;
+    private final OrganizationRepository organizationRepository;
+    private final long missRefreshIntervalNanos;
+    private final AtomicLong lastMissRefresh;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ReferenceDataRegistry(
+            RoleRepository roleRepository,
+            OrganizationRepository organizationRepository,
+            @Value("${hrms.reference-data.miss-refresh-min-interval-ms:10000}") long missRefreshMinIntervalMillis) {
+        this.roleRepository = roleRepository;
+        this.organizationRepository = organizationRepository;
+        this.missRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(missRefreshMinIntervalMillis);
+        // So the first miss is allowed to refresh
+        this.lastMissRefresh = new AtomicLong(System.nanoTime() - missRefreshIntervalNanos);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${hrms.reference-data.refresh-interval-ms:300000}",
+            initialDelayString = "${hrms.reference-data.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        Role[] rolesByName = new Role[RoleName.values().length];
+        Map<Long, Role> rolesById = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            rolesByName[role.getName().ordinal()] = role;
+            rolesById.put(role.getId(), role);
+        }
+        Map<Long, Organization> organizations = new HashMap<>();
+        for (Organization organization : organizationRepository.findAll()) {
+            organizations.put(organization.getId(), organization);
+        }
+        snapshot = new Snapshot(rolesByName, Map.copyOf(rolesById), Map.copyOf(organizations));
+        log.debug("Reference data loaded: {} roles, {} organizations", rolesById.size(), organizations.size());
+    }
+
+    public Optional<Role> findRole(RoleName name) {
+        Role role = snapshot.rolesByName()[name.ordinal()];
+        if (role == null) {
+            refreshOnMiss();
+            role = snapshot.rolesByName()[name.ordinal()];
+        }
+        return Optional.ofNullable(role);
+    }
+
+    public Optional<Role> findRoleById(Long id) {
+        Role role = snapshot.rolesById().get(id);
+        if (role == null) {
+            refreshOnMiss();
+            role = snapshot.rolesById().get(id);
+        }
+        return Optional.ofNullable(role);
+    }
+
+    public Optional<Organization> findOrganization(Long id) {
+        Organization organization = snapshot.organizations().get(id);
+        if (organization == null) {
+            refreshOnMiss();
+            organization = snapshot.organizations().get(id);
+        }
+        return Optional.ofNullable(organization);
+    }
+
+    // Only one caller per interval reloads; concurrent and later misses see the current snapshot
+    private void refreshOnMiss() {
+        long now = System.nanoTime();
+        long last = lastMissRefresh.get();
+        if (now - last < missRefreshIntervalNanos || !lastMissRefresh.compareAndSet(last, now)) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * The cached role with the same id as the given (possibly uninitialized) reference, or the
+     * reference itself when the role is not cached. Never initializes the reference.
+     */
+    public Role resolve(Role reference) {
+        if (reference == null) {
+            return null;
+        }
+        Role cached = snapshot.rolesById().get(reference.getId());
+        return cached != null ? cached : reference;
+    }
+
+    public Organization resolve(Organization reference) {
+        if (reference == null) {
+            return null;
+        }
+        Organization cached = snapshot.organizations().get(reference.getId());
+        return cached != null ? cached : reference;
+    }
+}
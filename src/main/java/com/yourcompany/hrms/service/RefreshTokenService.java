@@ -0,0 +1,110 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.RefreshToken;
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration-seconds:1209600}")
+    private long refreshExpirationSeconds;
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    @Transactional
+    public String issue(User user) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .user(user)
+                .expiresAt(LocalDateTime.now().plusSeconds(refreshExpirationSeconds))
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * Revokes the presented refresh token and issues a new one. Presenting a token that was
+     * already rotated is treated as theft and revokes every refresh token of that user.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        User user = current.getUser();
+
+        if (current.getRevokedAt() != null || refreshTokenRepository.revoke(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeAllForUser(user.getId(), now);
+            log.warn("Reuse of revoked refresh token detected for user {}", user.getId());
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        if (current.getExpiresAt().isBefore(now) || !user.isActive()) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        return new Rotation(user, issue(user));
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revoke(token.getId(), LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void revokeAllForUsers(Collection<Long> userIds) {
+        refreshTokenRepository.revokeAllForUsers(userIds, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.yourcompany.hrms.service;
+
+/**
+ * How a listing reports its total: EXACT runs a COUNT query, NONE skips it and only reports
+ * whether another page exists, APPROXIMATE uses the cached table estimate for unfiltered
+ * listings and behaves like NONE when a search is applied.
+ */
+public enum TotalCountMode {
+    EXACT,
+    NONE,
+    APPROXIMATE
+}
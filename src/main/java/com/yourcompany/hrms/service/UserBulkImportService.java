@@ -0,0 +1,543 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.EmploymentType;
+import com.yourcompany.hrms.entity.Organization;
+import com.yourcompany.hrms.entity.Role;
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.entity.user.BulkImportResponse;
+import com.yourcompany.hrms.entity.user.BulkImportRowResult;
+import com.yourcompany.hrms.entity.user.RegisterRequest;
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.exception.ServiceBusyException;
+import com.yourcompany.hrms.security.AuthenticatedUser;
+import com.yourcompany.hrms.security.BulkheadPasswordEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates many users per request. Rows are validated up front, then processed in batches:
+ * one query per batch checks emails and employee codes against the database, passwords are
+ * hashed in parallel on a bounded pool, ids come from the pooled users sequence and the rows
+ * are written with a single JDBC batch insert in their own transaction. If the database rejects
+ * the batch (an email or code taken concurrently), its rows are retried one at a time. A row that
+ * fails never stops the others; every row gets an entry in the report. Hashing never runs on the
+ * request thread: when the pool stays saturated past a bounded wait the import fails with 503.
+ */
+@Slf4j
+@Service
+public class UserBulkImportService implements DisposableBean {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, email, org_id, password, full_name, phone, employee_code, is_active,
+                               created_at, created_by_id, role_id, department, designation, doj,
+                               employment_type, profile_image_url, version, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    private static final String EXISTING_SQL =
+            "SELECT email, employee_code FROM users WHERE email = ANY(?) OR employee_code = ANY(?)";
+
+    private static final String NEXT_ID_BLOCKS_SQL =
+            "SELECT nextval('" + User.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+
+    private record Row(int number, RegisterRequest request, List<String> errors) {
+    }
+
+    private final ReferenceDataRegistry referenceData;
+    private final EmployeeCodeAllocator employeeCodeAllocator;
+    private final UserSuggestIndex userSuggestIndex;
+    private final HeadcountFacets headcountFacets;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final PasswordEncoder hashEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final int maxRows;
+    private final int batchSize;
+
+    public UserBulkImportService(ReferenceDataRegistry referenceData,
+                                 EmployeeCodeAllocator employeeCodeAllocator,
+                                 UserSuggestIndex userSuggestIndex,
+                                 HeadcountFacets headcountFacets,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 Validator validator,
+                                 PasswordEncoder passwordEncoder,
+                                 @Value("${hrms.bulk-import.max-rows:5000}") int maxRows,
+                                 @Value("${hrms.bulk-import.batch-size:500}") int batchSize,
+                                 @Value("${hrms.bulk-import.hash-threads:0}") int hashThreads,
+                                 @Value("${hrms.bulk-import.hash-queue-timeout-ms:10000}") long hashQueueTimeoutMillis) {
+        this.referenceData = referenceData;
+        this.employeeCodeAllocator = employeeCodeAllocator;
+        this.userSuggestIndex = userSuggestIndex;
+        this.headcountFacets = headcountFacets;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.maxRows = maxRows;
+        this.batchSize = batchSize;
+
+        // Hash with the calibrated cost but off the login bulkhead, so an import cannot fill its queue
+        this.hashEncoder = passwordEncoder instanceof BulkheadPasswordEncoder bulkhead
+                ? new BCryptPasswordEncoder(bulkhead.getStrength())
+                : passwordEncoder;
+
+        // 0 = half the CPUs, leaving the rest for regular traffic
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, batchSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-import-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Wait for queue space instead of hashing on the caller's (Tomcat) thread
+                (runnable, executor) -> {
+                    try {
+                        if (executor.isShutdown()
+                                || !executor.getQueue().offer(runnable, hashQueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                            throw new RejectedExecutionException("Bulk import hash queue is full");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for the hash queue", e);
+                    }
+                });
+    }
+
+    public BulkImportResponse importUsers(List<RegisterRequest> requests, AuthenticatedUser currentUser) {
+        List<Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new Row(i + 1, requests.get(i), new ArrayList<>()));
+        }
+        return importRows(rows, currentUser);
+    }
+
+    public BulkImportResponse importCsv(InputStream csv, AuthenticatedUser currentUser) throws IOException {
+        return importRows(parseCsv(csv), currentUser);
+    }
+
+    private BulkImportResponse importRows(List<Row> rows, AuthenticatedUser currentUser) {
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("Too many rows: " + rows.size() + " (max " + maxRows + ")");
+        }
+
+        RoleName currentUserRole = currentUser.role();
+        // created_by is written by id; the reference only needs to identify the creator
+        User creator = User.builder().id(currentUser.id()).email(currentUser.email()).build();
+
+        Organization organization = referenceData.findOrganization(1L)
+                .orElseThrow(() -> new IllegalArgumentException("Default organization not found (ID = 1). Please create it first."));
+
+        BulkImportRowResult[] results = new BulkImportRowResult[rows.size()];
+        List<Integer> accepted = new ArrayList<>(rows.size());
+        Map<Integer, Role> rowRoles = new HashMap<>();
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenCodes = new HashSet<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            RegisterRequest request = row.request();
+            List<String> errors = row.errors();
+
+            for (ConstraintViolation<RegisterRequest> violation : validator.validate(request)) {
+                errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+
+            Role role = resolveRole(request.getRoleName(), currentUserRole, errors);
+            if (request.getEmail() != null && !seenEmails.add(request.getEmail())) {
+                errors.add("Duplicate email in request: " + request.getEmail());
+            }
+            if (hasText(request.getEmployeeCode()) && !seenCodes.add(request.getEmployeeCode())) {
+                errors.add("Duplicate employee code in request: " + request.getEmployeeCode());
+            }
+
+            if (errors.isEmpty()) {
+                accepted.add(i);
+                rowRoles.put(i, role);
+            } else {
+                results[i] = failed(row, errors);
+            }
+        }
+
+        for (int from = 0; from < accepted.size(); from += batchSize) {
+            List<Integer> batch = accepted.subList(from, Math.min(from + batchSize, accepted.size()));
+            try {
+                importBatch(rows, batch, rowRoles, organization, creator, seenCodes, results);
+            } catch (ServiceBusyException e) {
+                if (from == 0) {
+                    // Nothing committed yet, so the whole request can simply be retried
+                    throw e;
+                }
+                // Earlier batches are committed: report them and leave the rest for the client to resend
+                for (int index : accepted.subList(from, accepted.size())) {
+                    if (results[index] == null) {
+                        results[index] = failed(rows.get(index), List.of("Not attempted: server busy, retry this row"));
+                    }
+                }
+                break;
+            }
+        }
+
+        int created = 0;
+        for (BulkImportRowResult result : results) {
+            if (result.getStatus() == BulkImportRowResult.Status.CREATED) {
+                created++;
+            }
+        }
+        return BulkImportResponse.builder()
+                .total(rows.size())
+                .created(created)
+                .failed(rows.size() - created)
+                .rows(List.of(results))
+                .build();
+    }
+
+    private void importBatch(List<Row> rows, List<Integer> batch, Map<Integer, Role> rowRoles,
+                             Organization organization, User creator, Set<String> requestedCodes,
+                             BulkImportRowResult[] results) {
+        // Generated codes skip any explicit code used elsewhere in the request
+        Map<Integer, String> codes = new HashMap<>();
+        for (int index : batch) {
+            RegisterRequest request = rows.get(index).request();
+            String code = request.getEmployeeCode();
+            if (!hasText(code)) {
+                do {
+                    code = employeeCodeAllocator.next(rowRoles.get(index).getName());
+                } while (requestedCodes.contains(code));
+            }
+            codes.put(index, code);
+        }
+
+        Set<String> existingEmails = new HashSet<>();
+        Set<String> existingCodes = new HashSet<>();
+        String[] emails = batch.stream().map(index -> rows.get(index).request().getEmail()).toArray(String[]::new);
+        String[] employeeCodes = batch.stream().map(codes::get).toArray(String[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXISTING_SQL);
+            Array emailArray = connection.createArrayOf("varchar", emails);
+            Array codeArray = connection.createArrayOf("varchar", employeeCodes);
+            statement.setArray(1, emailArray);
+            statement.setArray(2, codeArray);
+            return statement;
+        }, rs -> {
+            existingEmails.add(rs.getString("email"));
+            existingCodes.add(rs.getString("employee_code"));
+        });
+
+        List<Integer> insertable = new ArrayList<>(batch.size());
+        for (int index : batch) {
+            Row row = rows.get(index);
+            if (existingEmails.contains(row.request().getEmail())) {
+                row.errors().add("Email already exists: " + row.request().getEmail());
+            }
+            if (existingCodes.contains(codes.get(index))) {
+                row.errors().add("Employee code already exists: " + codes.get(index));
+            }
+            if (row.errors().isEmpty()) {
+                insertable.add(index);
+            } else {
+                results[index] = failed(row, row.errors());
+            }
+        }
+        if (insertable.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashAll(insertable.stream().map(index -> rows.get(index).request().getPassword()).toList());
+        List<Long> ids = allocateIds(insertable.size());
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        List<User> users = new ArrayList<>(insertable.size());
+        List<Object[]> batchArgs = new ArrayList<>(insertable.size());
+        for (int i = 0; i < insertable.size(); i++) {
+            int index = insertable.get(i);
+            RegisterRequest request = rows.get(index).request();
+            User user = User.builder()
+                    .id(ids.get(i))
+                    .organization(organization)
+                    .email(request.getEmail())
+                    .password(hashes.get(i))
+                    .fullName(request.getFullName())
+                    .phone(request.getPhone())
+                    .department(request.getDepartment())
+                    .designation(request.getDesignation())
+                    .dateOfJoining(request.getDateOfJoining())
+                    .employeeCode(codes.get(index))
+                    .employmentType(request.getEmploymentType() != null
+                            ? request.getEmploymentType() : EmploymentType.PROBATION)
+                    .isActive(true)
+                    .createdAt(createdAt)
+                    .createdBy(creator)
+                    .role(rowRoles.get(index))
+                    .profileImageUrl(request.getProfileImageUrl())
+                    .build();
+            users.add(user);
+            batchArgs.add(new Object[]{
+                    user.getId(), user.getEmail(), organization.getId(), user.getPassword(), user.getFullName(),
+                    user.getPhone(), user.getEmployeeCode(), Timestamp.valueOf(createdAt), creator.getId(),
+                    user.getRole().getId(), user.getDepartment(), user.getDesignation(),
+                    user.getDateOfJoining() != null ? Date.valueOf(user.getDateOfJoining()) : null,
+                    user.getEmploymentType().name(), user.getProfileImageUrl(), Timestamp.valueOf(createdAt)
+            });
+        }
+
+        boolean[] inserted = new boolean[insertable.size()];
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+            Arrays.fill(inserted, true);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk import batch of {} rows rejected by the database, inserting row by row", insertable.size(), e);
+            for (int i = 0; i < insertable.size(); i++) {
+                Object[] args = batchArgs.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, args));
+                    inserted[i] = true;
+                } catch (DataIntegrityViolationException rowFailure) {
+                    results[insertable.get(i)] = failed(rows.get(insertable.get(i)),
+                            List.of("Email or employee code already exists"));
+                }
+            }
+        }
+
+        List<User> created = new ArrayList<>(insertable.size());
+        for (int i = 0; i < insertable.size(); i++) {
+            if (!inserted[i]) {
+                continue;
+            }
+            User user = users.get(i);
+            created.add(user);
+            results[insertable.get(i)] = BulkImportRowResult.builder()
+                    .row(rows.get(insertable.get(i)).number())
+                    .email(user.getEmail())
+                    .status(BulkImportRowResult.Status.CREATED)
+                    .id(user.getId())
+                    .employeeCode(user.getEmployeeCode())
+                    .build();
+            headcountFacets.onChange(null, HeadcountFacets.Key.of(user));
+        }
+        // One snapshot rebuild per batch rather than per row
+        userSuggestIndex.upsertAll(created);
+    }
+
+    // Same rules as createUser: HR may only create EMPLOYEE users, only ADMIN may create ADMIN or HR users
+    private Role resolveRole(String roleName, RoleName currentUserRole, List<String> errors) {
+        if (!hasText(roleName)) {
+            return null;
+        }
+        RoleName requestedRole;
+        try {
+            requestedRole = RoleName.valueOf(roleName.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            errors.add("Invalid role: " + roleName);
+            return null;
+        }
+        if (currentUserRole == RoleName.HR && requestedRole != RoleName.EMPLOYEE) {
+            errors.add("HR can only create EMPLOYEE users");
+        } else if (currentUserRole != RoleName.ADMIN
+                && (requestedRole == RoleName.ADMIN || requestedRole == RoleName.HR)) {
+            errors.add("Only ADMIN can create ADMIN or HR users");
+        }
+        Role role = referenceData.findRole(requestedRole).orElse(null);
+        if (role == null) {
+            errors.add("Invalid role: " + roleName);
+        }
+        return role;
+    }
+
+    private List<String> hashAll(List<String> passwords) {
+        List<Future<String>> futures = new ArrayList<>(passwords.size());
+        try {
+            for (String password : passwords) {
+                futures.add(hashExecutor.submit(() -> hashEncoder.encode(password)));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ServiceBusyException("Bulk import is busy, please retry shortly", 5);
+        }
+        List<String> hashes = new ArrayList<>(passwords.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return hashes;
+    }
+
+    // Each nextval reserves the ids (value - allocationSize, value], the same blocks Hibernate's pooled optimizer uses
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + User.ID_ALLOCATION_SIZE - 1) / User.ID_ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(blocks * User.ID_ALLOCATION_SIZE);
+        for (Long high : jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks)) {
+            for (long id = high - User.ID_ALLOCATION_SIZE + 1; id <= high; id++) {
+                ids.add(id);
+            }
+        }
+        return ids.subList(0, count);
+    }
+
+    private static BulkImportRowResult failed(Row row, List<String> errors) {
+        return BulkImportRowResult.builder()
+                .row(row.number())
+                .email(row.request().getEmail())
+                .status(BulkImportRowResult.Status.FAILED)
+                .errors(List.copyOf(errors))
+                .build();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    // CSV with a header row naming RegisterRequest fields, e.g. email,password,fullName,roleName,department
+    private List<Row> parseCsv(InputStream csv) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+
+        List<Row> rows = new ArrayList<>();
+        List<String> values;
+        while ((values = readCsvRecord(reader)) != null) {
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            if (rows.size() >= maxRows) {
+                throw new IllegalArgumentException("Too many rows (max " + maxRows + ")");
+            }
+            RegisterRequest request = new RegisterRequest();
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                String value = values.get(i).isEmpty() ? null : values.get(i);
+                setCsvField(request, header.get(i).trim(), value, errors);
+            }
+            rows.add(new Row(rows.size() + 1, request, errors));
+        }
+        return rows;
+    }
+
+    private static void setCsvField(RegisterRequest request, String column, String value, List<String> errors) {
+        switch (column) {
+            case "email" -> request.setEmail(value);
+            case "password" -> request.setPassword(value);
+            case "fullName" -> request.setFullName(value);
+            case "phone" -> request.setPhone(value);
+            case "employeeCode" -> request.setEmployeeCode(value);
+            case "roleName" -> request.setRoleName(value);
+            case "department" -> request.setDepartment(value);
+            case "designation" -> request.setDesignation(value);
+            case "profileImageUrl" -> request.setProfileImageUrl(value);
+            case "dateOfJoining" -> {
+                try {
+                    request.setDateOfJoining(value != null ? LocalDate.parse(value) : null);
+                } catch (DateTimeParseException e) {
+                    errors.add("dateOfJoining: expected yyyy-MM-dd but was " + value);
+                }
+            }
+            case "employmentType" -> {
+                try {
+                    request.setEmploymentType(value != null
+                            ? EmploymentType.valueOf(value.trim().toUpperCase(Locale.ROOT)) : null);
+                } catch (IllegalArgumentException e) {
+                    errors.add("employmentType: unknown value " + value);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown CSV column: " + column);
+        }
+    }
+
+    // One RFC 4180 record: quoted fields may contain commas, doubled quotes and line breaks
+    private static List<String> readCsvRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+}
@@ -0,0 +1,302 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.EmploymentType;
+import com.yourcompany.hrms.entity.Role;
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.entity.user.BulkUpdateResponse;
+import com.yourcompany.hrms.entity.user.BulkUpdateUsersRequest;
+import com.yourcompany.hrms.entity.user.BulkUserSelection;
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.repository.UserRepository;
+import com.yourcompany.hrms.repository.UserSpecifications;
+import com.yourcompany.hrms.security.AuthenticatedUser;
+import com.yourcompany.hrms.security.TokenEpochRegistry;
+import com.yourcompany.hrms.security.UserDetailsCache;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies one change to many users with set-based statements: the targets are locked and read
+ * with one {@code SELECT ... WHERE id = ANY(?)} and changed with one {@code UPDATE ... WHERE id = ANY(?)}.
+ * Authorization is checked once per batch with the same role rules as the single-user endpoints:
+ * activation and role changes are ADMIN-only, and only ADMIN may change ADMIN or HR accounts.
+ * Rows are locked in id order so overlapping bulk updates cannot deadlock.
+ * Token epochs, cached UserDetails, the second-level cache, the suggest index and the headcount
+ * facets are updated from the rows read before the update.
+ */
+@Service
+public class UserBulkUpdateService {
+
+    private static final String SELECT_SQL = """
+            SELECT u.id, u.email, u.full_name, u.employee_code, u.department, u.designation,
+                   u.employment_type, u.is_active, u.profile_image_url, r.name AS role_name
+            FROM users u JOIN roles r ON r.id = u.role_id
+            WHERE u.id = ANY(?)
+            ORDER BY u.id
+            FOR UPDATE OF u
+            """;
+
+    private record Changes(String department, String designation, EmploymentType employmentType, Role role,
+                           Boolean isActive) {
+
+        // Token subject/role changes require outstanding tokens to be invalidated
+        boolean affectsAuthentication() {
+            return role != null || isActive != null;
+        }
+
+        User applyTo(User user) {
+            return User.builder()
+                    .id(user.getId())
+                    .email(user.getEmail())
+                    .fullName(user.getFullName())
+                    .employeeCode(user.getEmployeeCode())
+                    .profileImageUrl(user.getProfileImageUrl())
+                    .department(department != null ? department : user.getDepartment())
+                    .designation(designation != null ? designation : user.getDesignation())
+                    .employmentType(employmentType != null ? employmentType : user.getEmploymentType())
+                    .role(role != null ? role : user.getRole())
+                    .isActive(isActive != null ? isActive : user.isActive())
+                    .build();
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsCache userDetailsCache;
+    private final UserSuggestIndex userSuggestIndex;
+    private final HeadcountFacets headcountFacets;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache entityCache;
+    private final int maxUsers;
+
+    public UserBulkUpdateService(UserRepository userRepository,
+                                 ReferenceDataRegistry referenceData,
+                                 TokenEpochRegistry tokenEpochRegistry,
+                                 RefreshTokenService refreshTokenService,
+                                 UserDetailsCache userDetailsCache,
+                                 UserSuggestIndex userSuggestIndex,
+                                 HeadcountFacets headcountFacets,
+                                 JdbcTemplate jdbcTemplate,
+                                 EntityManagerFactory entityManagerFactory,
+                                 @Value("${hrms.bulk-update.max-users:5000}") int maxUsers) {
+        this.userRepository = userRepository;
+        this.referenceData = referenceData;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsCache = userDetailsCache;
+        this.userSuggestIndex = userSuggestIndex;
+        this.headcountFacets = headcountFacets;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityCache = entityManagerFactory.getCache();
+        this.maxUsers = maxUsers;
+    }
+
+    @Transactional
+    public BulkUpdateResponse updateUsers(BulkUpdateUsersRequest request, AuthenticatedUser currentUser) {
+        requireAdminOrHr(currentUser);
+        if (!request.hasChanges()) {
+            throw new IllegalArgumentException("No changes requested");
+        }
+        if ((request.getRoleName() != null || request.getIsActive() != null) && currentUser.role() != RoleName.ADMIN) {
+            throw new IllegalArgumentException("Access denied: only ADMIN can change roles or activation in bulk");
+        }
+
+        Role role = null;
+        if (request.getRoleName() != null) {
+            RoleName newRole = RoleName.valueOf(request.getRoleName().toUpperCase());
+            role = referenceData.findRole(newRole)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid role: " + request.getRoleName()));
+        }
+
+        Changes changes = new Changes(request.getDepartment(), request.getDesignation(),
+                request.getEmploymentType(), role, request.getIsActive());
+        return apply(request.toSelection(), changes, currentUser);
+    }
+
+    @Transactional
+    public BulkUpdateResponse deactivateUsers(BulkUserSelection selection, AuthenticatedUser currentUser) {
+        if (currentUser.role() != RoleName.ADMIN) {
+            throw new IllegalArgumentException("Access denied: only ADMIN can deactivate users in bulk");
+        }
+        return apply(selection, new Changes(null, null, null, null, false), currentUser);
+    }
+
+    private static void requireAdminOrHr(AuthenticatedUser currentUser) {
+        if (!currentUser.isAdminOrHr()) {
+            throw new IllegalArgumentException("Access denied: only ADMIN or HR can update users in bulk");
+        }
+    }
+
+    private BulkUpdateResponse apply(BulkUserSelection selection, Changes changes, AuthenticatedUser currentUser) {
+        List<Long> ids = resolveIds(selection);
+
+        Map<Long, User> before = lockAndRead(ids);
+        if (currentUser.role() != RoleName.ADMIN) {
+            for (User user : before.values()) {
+                RoleName role = user.getRole().getName();
+                if (role == RoleName.ADMIN || role == RoleName.HR) {
+                    throw new IllegalArgumentException("Access denied: only ADMIN can update ADMIN or HR users (id "
+                            + user.getId() + ")");
+                }
+            }
+        }
+        List<Long> missingIds = ids.stream().filter(id -> !before.containsKey(id)).toList();
+        if (before.isEmpty()) {
+            return BulkUpdateResponse.builder().matched(0).updated(0).missingIds(missingIds).build();
+        }
+
+        int updated = update(new ArrayList<>(before.keySet()), changes);
+        // The UPDATE bypasses Hibernate, so cached users would keep their old state and version
+        evictCachedUsers(before.keySet());
+        afterCommit(() -> evictCachedUsers(before.keySet()));
+
+        List<User> after = before.values().stream().map(changes::applyTo).toList();
+        if (changes.affectsAuthentication()) {
+            String[] emails = before.values().stream().map(User::getEmail).toArray(String[]::new);
+            before.keySet().forEach(tokenEpochRegistry::bump);
+            refreshTokenService.revokeAllForUsers(before.keySet());
+            for (String email : emails) {
+                userDetailsCache.evict(email);
+            }
+            afterCommit(() -> {
+                for (String email : emails) {
+                    userDetailsCache.evict(email);
+                }
+            });
+        }
+        afterCommit(() -> {
+            userSuggestIndex.upsertAll(after);
+            for (User user : after) {
+                headcountFacets.onChange(HeadcountFacets.Key.of(before.get(user.getId())), HeadcountFacets.Key.of(user));
+            }
+        });
+
+        return BulkUpdateResponse.builder()
+                .matched(before.size())
+                .updated(updated)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private List<Long> resolveIds(BulkUserSelection selection) {
+        boolean hasIds = selection.getIds() != null && !selection.getIds().isEmpty();
+        // Also checked by @Valid on the endpoints; the service must not NPE when called otherwise
+        if (hasIds && selection.getIds().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Ids must not contain null");
+        }
+        boolean hasFilter = selection.getFilter() != null && selection.getFilter().hasCriteria();
+        if (hasIds == hasFilter) {
+            throw new IllegalArgumentException("Specify either ids or a filter with at least one criterion");
+        }
+
+        List<Long> ids = hasIds
+                ? List.copyOf(new LinkedHashSet<>(selection.getIds()))
+                : userRepository.findIds(UserSpecifications.matching(null, selection.getFilter()), maxUsers + 1);
+        if (ids.size() > maxUsers) {
+            throw new IllegalArgumentException("Too many users selected (max " + maxUsers + ")");
+        }
+        return ids;
+    }
+
+    private Map<Long, User> lockAndRead(List<Long> ids) {
+        Map<Long, User> users = new LinkedHashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        }, rs -> {
+            String employmentType = rs.getString("employment_type");
+            User user = User.builder()
+                    .id(rs.getLong("id"))
+                    .email(rs.getString("email"))
+                    .fullName(rs.getString("full_name"))
+                    .employeeCode(rs.getString("employee_code"))
+                    .department(rs.getString("department"))
+                    .designation(rs.getString("designation"))
+                    .employmentType(employmentType != null ? EmploymentType.valueOf(employmentType) : null)
+                    .isActive(rs.getBoolean("is_active"))
+                    .profileImageUrl(rs.getString("profile_image_url"))
+                    .role(Role.builder().name(RoleName.valueOf(rs.getString("role_name"))).build())
+                    .build();
+            users.put(user.getId(), user);
+        });
+        return users;
+    }
+
+    private int update(List<Long> ids, Changes changes) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (changes.department() != null) {
+            assignments.add("department = ?");
+            params.add(changes.department());
+        }
+        if (changes.designation() != null) {
+            assignments.add("designation = ?");
+            params.add(changes.designation());
+        }
+        if (changes.employmentType() != null) {
+            assignments.add("employment_type = ?");
+            params.add(changes.employmentType().name());
+        }
+        if (changes.role() != null) {
+            assignments.add("role_id = ?");
+            params.add(changes.role().getId());
+        }
+        if (changes.isActive() != null) {
+            assignments.add("is_active = ?");
+            params.add(changes.isActive());
+        }
+
+        assignments.add("version = version + 1");
+        assignments.add("updated_at = ?");
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+
+        String sql = "UPDATE users SET " + String.join(", ", assignments) + " WHERE id = ANY(?)";
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            statement.setArray(params.size() + 1, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        });
+    }
+
+    private void evictCachedUsers(Collection<Long> ids) {
+        for (Long id : ids) {
+            entityCache.evict(User.class, id);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.yourcompany.hrms.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background-refreshed estimate of the number of rows in users, taken from PostgreSQL's
+ * planner statistics (pg_class.reltuples). Falls back to an exact count when the table has
+ * not been analyzed yet.
+ */
+@Slf4j
+@Component
+public class UserCountEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile long estimate = -1;
+
+    public UserCountEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${hrms.user-count.refresh-interval-ms:60000}",
+            initialDelayString = "${hrms.user-count.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            Long reltuples = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = 'users'::regclass", Long.class);
+            if (reltuples == null || reltuples < 0) {
+                reltuples = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+            }
+            estimate = reltuples != null ? reltuples : -1;
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh user count estimate", e);
+        }
+    }
+
+    /**
+     * Returns the latest estimate, or -1 if none is available yet.
+     */
+    public long getEstimate() {
+        return estimate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.repository.UserSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination: the sort key and direction plus the
+ * last row's sort value and id, Base64url-encoded.
+ */
+record UserCursor(UserSortKey sortKey, boolean descending, String lastValue, Long lastId) {
+
+    private static final char SEPARATOR = '\n';
+
+    String encode() {
+        String raw = sortKey.name() + SEPARATOR + (descending ? "DESC" : "ASC") + SEPARATOR
+                + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last and may itself contain the separator
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 4);
+            return new UserCursor(
+                    UserSortKey.valueOf(parts[0]),
+                    "DESC".equals(parts[1]),
+                    parts[3],
+                    Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.yourcompany.hrms.service;
 
+import com.yourcompany.hrms.entity.Role;
 import com.yourcompany.hrms.entity.user.User;
 import com.yourcompany.hrms.repository.UserRepository;
+import com.yourcompany.hrms.security.AuthenticatedUser;
+import com.yourcompany.hrms.security.AuthenticatedUserDetails;
+import com.yourcompany.hrms.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -9,7 +13,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -19,10 +22,17 @@ import java.util.Collections;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final ReferenceDataRegistry referenceData;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::loadFromDatabase);
+    }
+
+    // The user comes from the second-level cache when warm; the role is resolved from the registry
+    // by foreign key, so the detached user's role proxy is never initialized
+    private UserDetails loadFromDatabase(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
@@ -30,20 +40,20 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             throw new UsernameNotFoundException("User account is inactive: " + email);
         }
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(getAuthorities(user))
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(!user.isActive())
-                .build();
+        Role role = referenceData.findRoleById(user.getRole().getId())
+                .orElseThrow(() -> new UsernameNotFoundException("Role not found for user: " + email));
+        Long orgId = user.getOrganization() != null ? user.getOrganization().getId() : null;
+
+        // Carries id, role and organization so requests never need to look the caller up again
+        return new AuthenticatedUserDetails(
+                user.getPassword(),
+                user.isActive(),
+                getAuthorities(role),
+                new AuthenticatedUser(user.getId(), user.getEmail(), role.getName(), orgId));
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        String roleName = user.getRole().getName().name();
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + roleName));
+    private Collection<? extends GrantedAuthority> getAuthorities(Role role) {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.getName().name()));
     }
 }
 
@@ -0,0 +1,171 @@
+package com.yourcompany.hrms.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Streams the employee directory straight from a forward-only JDBC cursor to the response.
+ * Rows are written as they are read, nothing is attached to a persistence context, so heap
+ * use does not grow with headcount. PostgreSQL only honours the fetch size inside a
+ * transaction, hence the read-only transaction around the query.
+ */
+@Service
+public class UserExportService {
+
+    private static final String EXPORT_SQL = """
+            SELECT u.id, u.email, u.username, u.full_name, u.phone, u.employee_code,
+                   u.department, u.designation, u.doj, u.employment_type, u.is_active,
+                   u.created_at, u.last_login, u.profile_image_url,
+                   r.name AS role_name, o.id AS org_id, o.name AS organization_name,
+                   cb.id AS created_by_id, cb.full_name AS created_by_full_name
+            FROM users u
+            JOIN roles r ON r.id = u.role_id
+            LEFT JOIN organizations o ON o.id = u.org_id
+            LEFT JOIN users cb ON cb.id = u.created_by_id
+            WHERE (? IS NULL OR lower(u.full_name) LIKE ? OR lower(u.email) LIKE ?)
+            ORDER BY u.id
+            """;
+
+    // JSON field name / CSV header, result-set column
+    private static final String[][] FIELDS = {
+            {"id", "id"},
+            {"email", "email"},
+            {"username", "username"},
+            {"fullName", "full_name"},
+            {"phone", "phone"},
+            {"employeeCode", "employee_code"},
+            {"department", "department"},
+            {"designation", "designation"},
+            {"dateOfJoining", "doj"},
+            {"employmentType", "employment_type"},
+            {"isActive", "is_active"},
+            {"createdAt", "created_at"},
+            {"lastLogin", "last_login"},
+            {"profileImageUrl", "profile_image_url"},
+            {"roleName", "role_name"},
+            {"orgId", "org_id"},
+            {"organizationName", "organization_name"},
+            {"createdById", "created_by_id"},
+            {"createdByFullName", "created_by_full_name"}
+    };
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public UserExportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${hrms.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportNdjson(String search, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+            stream(search, rs -> {
+                json.writeStartObject();
+                for (String[] field : FIELDS) {
+                    Object value = value(rs, field[1]);
+                    if (value == null) {
+                        json.writeNullField(field[0]);
+                    } else if (value instanceof Number || value instanceof Boolean) {
+                        json.writeObjectField(field[0], value);
+                    } else {
+                        json.writeStringField(field[0], value.toString());
+                    }
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            });
+        }
+    }
+
+    public void exportCsv(String search, OutputStream out) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int i = 0; i < FIELDS.length; i++) {
+            csv.write(i == 0 ? "" : ",");
+            csv.write(FIELDS[i][0]);
+        }
+        csv.write("\r\n");
+
+        stream(search, rs -> {
+            for (int i = 0; i < FIELDS.length; i++) {
+                csv.write(i == 0 ? "" : ",");
+                Object value = value(rs, FIELDS[i][1]);
+                if (value != null) {
+                    csv.write(escapeCsv(value.toString()));
+                }
+            }
+            csv.write("\r\n");
+        });
+        csv.flush();
+    }
+
+    private void stream(String search, RowWriter rowWriter) throws IOException {
+        String pattern = search == null || search.isBlank() ? null : "%" + search.trim().toLowerCase() + "%";
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setString(1, pattern);
+                statement.setString(2, pattern);
+                statement.setString(3, pattern);
+                return statement;
+            }, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; abort the query and surface the I/O error
+            throw e.getCause();
+        }
+    }
+
+    private static Object value(ResultSet rs, String column) throws SQLException {
+        return switch (column) {
+            case "doj" -> rs.getObject(column, LocalDate.class);
+            case "created_at", "last_login" -> rs.getObject(column, LocalDateTime.class);
+            default -> rs.getObject(column);
+        };
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,24 +1,50 @@
 package com.yourcompany.hrms.service;
 
+import com.yourcompany.hrms.config.CursorPage;
+import com.yourcompany.hrms.config.UserSearchIndexInitializer;
 import com.yourcompany.hrms.entity.*;
 import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.exception.PreconditionFailedException;
 import com.yourcompany.hrms.exception.ResourceNotFoundException;
-import com.yourcompany.hrms.repository.OrganizationRepository;
-import com.yourcompany.hrms.repository.RoleRepository;
 import com.yourcompany.hrms.repository.UserRepository;
+import com.yourcompany.hrms.repository.UserSortKey;
+import com.yourcompany.hrms.repository.UserSpecifications;
+import com.yourcompany.hrms.repository.UserVersion;
+import com.yourcompany.hrms.security.AuthenticatedUser;
+import com.yourcompany.hrms.security.TokenEpochRegistry;
+import com.yourcompany.hrms.security.UserDetailsCache;
+import com.yourcompany.hrms.entity.user.BatchGetUsersResponse;
+import com.yourcompany.hrms.entity.user.HeadcountResponse;
 import com.yourcompany.hrms.entity.user.RegisterRequest;
 import com.yourcompany.hrms.entity.user.UpdateUserRequest;
+import com.yourcompany.hrms.entity.user.UserFieldSet;
+import com.yourcompany.hrms.entity.user.UserFilter;
 import com.yourcompany.hrms.entity.user.UserResponse;
+import com.yourcompany.hrms.entity.user.UserSuggestion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -26,20 +52,26 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
-    private final OrganizationRepository organizationRepository;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsCache userDetailsCache;
+    private final UserSearchIndexInitializer userSearchIndexInitializer;
+    private final UserSuggestIndex userSuggestIndex;
+    private final UserCountEstimator userCountEstimator;
+    private final HeadcountFacets headcountFacets;
+    private final EmployeeCodeAllocator employeeCodeAllocator;
+    private final ReferenceDataRegistry referenceData;
 
+    @Value("${hrms.batch-get.max-ids:500}")
+    private int batchGetMaxIds;
 
 
     @Transactional
-    public UserResponse createUser(RegisterRequest request, String currentUserEmail) {
-
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("Current user not found"));
+    public UserResponse createUser(RegisterRequest request, AuthenticatedUser currentUser) {
 
         RoleName requestedRole = RoleName.valueOf(request.getRoleName().toUpperCase());
-        RoleName currentUserRole = currentUser.getRole().getName();
+        RoleName currentUserRole = currentUser.role();
 
         if (currentUserRole == RoleName.HR && requestedRole != RoleName.EMPLOYEE) {
             throw new IllegalArgumentException("HR can only create EMPLOYEE users");
@@ -55,17 +87,21 @@ public class UserService {
             throw new IllegalArgumentException("Email already exists: " + request.getEmail());
         }
 
-        Role role = roleRepository.findByName(requestedRole)
+        Role role = referenceData.findRole(requestedRole)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid role: " + request.getRoleName()));
 
 
         final String employeeCode;
         if (request.getEmployeeCode() == null || request.getEmployeeCode().trim().isEmpty()) {
-            employeeCode = generateEmployeeCodeForRole(requestedRole);
+            // Blocks skip codes taken when they were reserved; this catches codes entered by hand since
+            String code;
+            do {
+                code = employeeCodeAllocator.next(requestedRole);
+            } while (userRepository.existsByEmployeeCode(code));
+            employeeCode = code;
         } else {
             employeeCode = request.getEmployeeCode();
-            if (userRepository.findAll().stream()
-                    .anyMatch(u -> u.getEmployeeCode().equals(employeeCode))) {
+            if (userRepository.findByEmployeeCode(employeeCode).isPresent()) {
                 throw new IllegalArgumentException("Employee code already exists: " + employeeCode);
             }
         }
@@ -79,7 +115,7 @@ public class UserService {
 //                .orElseThrow(() -> new IllegalArgumentException("Invalid organization ID: " + request.getOrgId()));
 
         // Default role hard codej
-        Organization organization = organizationRepository.findById(1L)
+        Organization organization = referenceData.findOrganization(1L)
                 .orElseThrow(() -> new IllegalArgumentException("Default organization not found (ID = 1). Please create it first."));
 
 
@@ -99,40 +135,218 @@ public class UserService {
                 .employeeCode(employeeCode)
                 .employmentType(employmentType)
                 .isActive(true)
-                .createdBy(currentUser)
+                .createdBy(userRepository.getReferenceById(currentUser.id()))
                 .role(role)
                 .profileImageUrl(request.getProfileImageUrl())
                 .build();
 
 
         User savedUser = userRepository.save(user);
+        HeadcountFacets.Key createdKey = HeadcountFacets.Key.of(savedUser);
+        afterCommit(() -> {
+            userSuggestIndex.upsert(savedUser);
+            headcountFacets.onChange(null, createdKey);
+        });
         return toUserResponse(savedUser);
     }
 
+    public HeadcountResponse getHeadcount() {
+        return headcountFacets.snapshot();
+    }
+
+    public List<UserSuggestion> suggestUsers(String query, int limit) {
+        return userSuggestIndex.suggest(query, limit);
+    }
+
     @Transactional(readOnly = true)
-    public Page<UserResponse> getAllUsers(String search, Pageable pageable) {
-        Page<User> users = userRepository.findAllWithSearch(search, pageable);
-        return users.map(this::toUserResponse);
+    public Page<UserResponse> getAllUsers(String search, Pageable pageable, UserFieldSet fields) {
+        if (isRankedSearch(search, pageable)) {
+            Page<User> ranked = userRepository.searchRanked(search.trim(),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+            return ranked.map(user -> toUserResponse(user, fields));
+        }
+        Pageable sorted = withDefaultSort(pageable);
+        Page<User> users = fields.isAll()
+                ? userRepository.findAllWithSearch(search, sorted)
+                : userRepository.findPage(UserSpecifications.matching(search, null), sorted, fields.associations());
+        return users.map(user -> toUserResponse(user, fields));
     }
 
+    /**
+     * Listing behind GET /api/users. Only the associations needed by the requested fields are
+     * joined; the ranked search queries join none and load what is requested in batches.
+     */
     @Transactional(readOnly = true)
-    public UserResponse getUserById(Long id, String currentUserEmail) {
-        User user = userRepository.findById(id)
+    public Slice<UserResponse> getAllUsers(String search, UserFilter filter, Pageable pageable,
+                                           TotalCountMode totalCountMode, UserFieldSet fields) {
+        if (filter != null && filter.hasCriteria()) {
+            Specification<User> specification = UserSpecifications.matching(search, filter);
+            Pageable sorted = withDefaultSort(pageable);
+            Slice<User> users = totalCountMode == TotalCountMode.EXACT
+                    ? userRepository.findPage(specification, sorted, fields.associations())
+                    : userRepository.findSlice(specification, sorted, fields.associations());
+            return users.map(user -> toUserResponse(user, fields));
+        }
+
+        if (totalCountMode == TotalCountMode.EXACT) {
+            return getAllUsers(search, pageable, fields);
+        }
+
+        boolean filtered = search != null && !search.isBlank();
+        Slice<User> slice;
+        if (isRankedSearch(search, pageable)) {
+            slice = userRepository.searchRankedSlice(search.trim(),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        } else if (fields.isAll()) {
+            slice = userRepository.findSliceWithSearch(search, withDefaultSort(pageable));
+        } else {
+            slice = userRepository.findSlice(UserSpecifications.matching(search, null), withDefaultSort(pageable),
+                    fields.associations());
+        }
+        Slice<UserResponse> users = slice.map(user -> toUserResponse(user, fields));
+
+        long estimate = userCountEstimator.getEstimate();
+        if (totalCountMode == TotalCountMode.APPROXIMATE && !filtered && estimate >= 0) {
+            // Never report fewer rows than this page proves exist
+            long seen = pageable.getOffset() + users.getNumberOfElements() + (users.hasNext() ? 1 : 0);
+            return new PageImpl<>(users.getContent(), pageable, Math.max(estimate, seen));
+        }
+        return users;
+    }
+
+    // Ranked search orders by relevance, so an explicit sort is rejected rather than silently ignored
+    private boolean isRankedSearch(String search, Pageable pageable) {
+        if (search == null || search.isBlank() || !userSearchIndexInitializer.isReady()) {
+            return false;
+        }
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException(
+                    "sortBy/sortDir cannot be combined with search: results are ordered by relevance");
+        }
+        return true;
+    }
+
+    private static Pageable withDefaultSort(Pageable pageable) {
+        return pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
+    }
+
+    /**
+     * Keyset-paginated listing. A null or empty cursor starts from the beginning using
+     * sortBy/sortDir (default id ASC). Later pages follow the sort encoded in the cursor;
+     * sortBy/sortDir may be repeated but must match it.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUsersByCursor(String search, String sortBy, String sortDir,
+                                                     String cursor, int size, UserFieldSet fields) {
+        UserCursor position = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+        UserSortKey requestedKey = sortBy != null ? UserSortKey.fromProperty(sortBy) : null;
+        Boolean requestedDescending = sortDir != null ? "DESC".equalsIgnoreCase(sortDir) : null;
+        if (position != null
+                && ((requestedKey != null && requestedKey != position.sortKey())
+                    || (requestedDescending != null && requestedDescending != position.descending()))) {
+            throw new IllegalArgumentException("sortBy/sortDir do not match the cursor; "
+                    + "start again without a cursor to change the sort");
+        }
+        UserSortKey sortKey = position != null ? position.sortKey()
+                : requestedKey != null ? requestedKey : UserSortKey.ID;
+        boolean descending = position != null ? position.descending() : Boolean.TRUE.equals(requestedDescending);
+
+        List<User> rows = userRepository.findPageAfter(
+                search,
+                sortKey,
+                descending,
+                position != null ? sortKey.parse(position.lastValue()) : null,
+                position != null ? position.lastId() : null,
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<User> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            User last = page.get(page.size() - 1);
+            nextCursor = new UserCursor(sortKey, descending, sortKey.format(last), last.getId()).encode();
+        }
+
+        return CursorPage.<UserResponse>builder()
+                .content(page.stream().map(user -> toUserResponse(user, fields)).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public UserResponse getUserById(Long id, AuthenticatedUser currentUser, UserFieldSet fields) {
+        User user = userRepository.findByIdFetching(id, fields.associations())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        checkCanView(id, currentUser);
+        return toUserResponse(user, fields);
+    }
 
-        // Check if current user is ADMIN/HR or same user
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("Current user not found"));
+    /**
+     * Current version and last login of a user, for answering If-None-Match without loading the entity.
+     */
+    @Transactional(readOnly = true)
+    public UserVersion getUserVersion(Long id, AuthenticatedUser currentUser) {
+        UserVersion version = userRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        checkCanView(id, currentUser);
+        return version;
+    }
 
-        RoleName currentUserRole = currentUser.getRole().getName();
-        boolean isAdminOrHr = currentUserRole == RoleName.ADMIN || currentUserRole == RoleName.HR;
-        boolean isSameUser = currentUser.getId().equals(id);
+    public LocalDateTime getUsersLastUpdatedAt() {
+        return userRepository.findLastUpdatedAt();
+    }
 
-        if (!isAdminOrHr && !isSameUser) {
+    public long getUsersWriteCount() {
+        Long writes = userRepository.findWriteCount();
+        return writes != null ? writes : 0;
+    }
+
+    // ADMIN/HR may view anyone, everyone else only themselves
+    private static void checkCanView(Long id, AuthenticatedUser currentUser) {
+        if (!currentUser.isAdminOrHr() && !currentUser.id().equals(id)) {
             throw new IllegalArgumentException("Access denied: You can only view your own profile");
         }
+    }
+
+    /**
+     * Resolves many users with one authorization check and one IN query. Results follow the
+     * request order; duplicates are returned once and unknown ids are reported as missing.
+     */
+    @Transactional(readOnly = true)
+    public BatchGetUsersResponse getUsersByIds(List<Long> ids, AuthenticatedUser currentUser) {
+        List<Long> requested = List.copyOf(new LinkedHashSet<>(ids));
+        if (requested.size() > batchGetMaxIds) {
+            throw new IllegalArgumentException("Too many ids: " + requested.size() + " (max " + batchGetMaxIds + ")");
+        }
 
-        return toUserResponse(user);
+        if (!currentUser.isAdminOrHr()) {
+            throw new IllegalArgumentException("Access denied: only ADMIN or HR can fetch users in batch");
+        }
+
+        Map<Long, User> found = new HashMap<>();
+        for (User user : userRepository.findAllByIdWithCreatedBy(requested)) {
+            found.put(user.getId(), user);
+        }
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            User user = found.get(id);
+            if (user != null) {
+                users.add(toUserResponse(user));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return BatchGetUsersResponse.builder()
+                .users(users)
+                .missingIds(missingIds)
+                .build();
     }
 
 //    @Transactional
@@ -198,23 +412,30 @@ public class UserService {
 //        User updatedUser = userRepository.save(user);
 //        return toUserResponse(updatedUser);
 //    }
+/**
+ * @param expectedVersion version from the client's If-Match header, or null to update unconditionally
+ */
 @Transactional
-public UserResponse updateUser(Long id, UpdateUserRequest request, String currentUserEmail) {
+public UserResponse updateUser(Long id, UpdateUserRequest request, AuthenticatedUser currentUser,
+                               Long expectedVersion) {
 
     User user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
-    User currentUser = userRepository.findByEmail(currentUserEmail)
-            .orElseThrow(() -> new UsernameNotFoundException("Current user not found"));
+    if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+        throw new PreconditionFailedException("User " + id + " has been modified (current version "
+                + user.getVersion() + ")");
+    }
 
-    RoleName currentUserRole = currentUser.getRole().getName();
-    boolean isAdminOrHr = currentUserRole == RoleName.ADMIN || currentUserRole == RoleName.HR;
-    boolean isSameUser = currentUser.getId().equals(id);
+    boolean isAdminOrHr = currentUser.isAdminOrHr();
+    boolean isSameUser = currentUser.id().equals(id);
 
     if (!isAdminOrHr && !isSameUser) {
         throw new IllegalArgumentException("Access denied: You can only update your own profile");
     }
 
+    HeadcountFacets.Key keyBefore = HeadcountFacets.Key.of(user);
+
     if (isSameUser && !isAdminOrHr) {
 
         if (request.getFullName() != null) {
@@ -227,6 +448,10 @@ public UserResponse updateUser(Long id, UpdateUserRequest request, String curren
     }
     else {
 
+        String previousEmail = user.getEmail();
+        Long previousRoleId = user.getRole().getId();
+        boolean previouslyActive = user.isActive();
+
         // EMAIL (unique)
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
             if (userRepository.findByEmail(request.getEmail()).isPresent()) {
@@ -282,7 +507,7 @@ public UserResponse updateUser(Long id, UpdateUserRequest request, String curren
 
         if (request.getRoleName() != null) {
             RoleName newRole = RoleName.valueOf(request.getRoleName().toUpperCase());
-            Role role = roleRepository.findByName(newRole)
+            Role role = referenceData.findRole(newRole)
                     .orElseThrow(() -> new IllegalArgumentException("Invalid role: " + request.getRoleName()));
             user.setRole(role);
         }
@@ -294,9 +519,24 @@ public UserResponse updateUser(Long id, UpdateUserRequest request, String curren
         if (request.getProfileImageUrl() != null) {
             user.setProfileImageUrl(request.getProfileImageUrl());
         }
+
+        // Outstanding tokens carry the old subject/role, so invalidate them
+        if (!user.getEmail().equals(previousEmail)
+                || !user.getRole().getId().equals(previousRoleId)
+                || user.isActive() != previouslyActive) {
+            tokenEpochRegistry.bump(id);
+            refreshTokenService.revokeAllForUser(id);
+            evictUserDetails(previousEmail, user.getEmail());
+        }
     }
 
-    User updatedUser = userRepository.save(user);
+    // Flush so the response (and its ETag) carries the incremented version
+    User updatedUser = userRepository.saveAndFlush(user);
+    HeadcountFacets.Key keyAfter = HeadcountFacets.Key.of(updatedUser);
+    afterCommit(() -> {
+        userSuggestIndex.upsert(updatedUser);
+        headcountFacets.onChange(keyBefore, keyAfter);
+    });
     return toUserResponse(updatedUser);
 }
 
@@ -306,16 +546,60 @@ public UserResponse updateUser(Long id, UpdateUserRequest request, String curren
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
+        HeadcountFacets.Key keyBefore = HeadcountFacets.Key.of(user);
         user.setActive(false);
         userRepository.save(user);
+        HeadcountFacets.Key keyAfter = HeadcountFacets.Key.of(user);
+        tokenEpochRegistry.bump(id);
+        refreshTokenService.revokeAllForUser(id);
+        evictUserDetails(user.getEmail());
+        afterCommit(() -> {
+            userSuggestIndex.remove(id);
+            headcountFacets.onChange(keyBefore, keyAfter);
+        });
     }
 
-    public String getCurrentUserEmail() {
+    // Evict now so the change is visible immediately, and again after commit in case a
+    // concurrent request re-cached the pre-commit row in between.
+    private void evictUserDetails(String... emails) {
+        for (String email : emails) {
+            userDetailsCache.evict(email);
+        }
+        afterCommit(() -> {
+            for (String email : emails) {
+                userDetailsCache.evict(email);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * The caller placed in the SecurityContext by JwtAuthenticationFilter. Only principals built
+     * elsewhere, which carry just a name, cost a lookup.
+     */
+    public AuthenticatedUser getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            return authentication.getName();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("No authenticated user found");
         }
-        throw new IllegalStateException("No authenticated user found");
+        if (authentication.getPrincipal() instanceof AuthenticatedUser currentUser) {
+            return currentUser;
+        }
+        return userRepository.findByEmailWithRole(authentication.getName())
+                .map(AuthenticatedUser::of)
+                .orElseThrow(() -> new UsernameNotFoundException("Current user not found"));
     }
 
 //    private String generateEmployeeCode() {
@@ -338,40 +622,23 @@ public UserResponse updateUser(Long id, UpdateUserRequest request, String curren
 //
 //        return "EMP-1001";
 //    }
-private String generateEmployeeCodeForRole(RoleName roleName) {
-
-    String prefix;
-
-    switch (roleName) {
-        case ADMIN -> prefix = "ADM-";
-        case HR -> prefix = "HR-";
-        default -> prefix = "EMP-";
-    }
-
-    Optional<User> lastUser = userRepository
-            .findTopByEmployeeCodeStartingWithOrderByEmployeeCodeDesc(prefix);
-
-    if (lastUser.isEmpty()) {
-        return prefix + "1001";
-    }
-
-    String lastCode = lastUser.get().getEmployeeCode();
-
-    try {
-        int lastNumber = Integer.parseInt(lastCode.substring(prefix.length()));
-        return prefix + (lastNumber + 1);
-    } catch (NumberFormatException e) {
-        return prefix + "1001";
+    public UserResponse toUserResponse(User user) {
+        return toUserResponse(user, UserFieldSet.ALL);
     }
-}
 
-
-    public UserResponse toUserResponse(User user) {
+    /**
+     * Role and organization come from the reference-data registry by foreign key, and createdBy is
+     * only read when requested, so none of them is loaded per user.
+     */
+    public UserResponse toUserResponse(User user, UserFieldSet fields) {
+        Organization organization = referenceData.resolve(user.getOrganization());
+        Role role = referenceData.resolve(user.getRole());
+        User createdBy = user.getCreatedBy();
         return UserResponse.builder()
                 .id(user.getId())
 
-                .orgId(user.getOrganization() != null ? user.getOrganization().getId() : null)
-                .organizationName(user.getOrganization() != null ? user.getOrganization().getName() : null)
+                .orgId(organization != null ? organization.getId() : null)
+                .organizationName(organization != null ? organization.getName() : null)
 
                 .username(user.getUsername())
                 .email(user.getEmail())
@@ -386,11 +653,13 @@ private String generateEmployeeCodeForRole(RoleName roleName) {
                 .isActive(user.isActive())
                 .createdAt(user.getCreatedAt())
 
-                .createdById(user.getCreatedBy() != null ? user.getCreatedBy().getId() : null)
-                .createdByFullName(user.getCreatedBy() != null ? user.getCreatedBy().getFullName() : null)
+                .createdById(createdBy != null ? createdBy.getId() : null)
+                .createdByFullName(createdBy != null && fields.includes("createdByFullName")
+                        ? createdBy.getFullName() : null)
 
-                .roleName(user.getRole() != null ? user.getRole().getName().name() : null)
+                .roleName(role != null ? role.getName().name() : null)
                 .profileImageUrl(user.getProfileImageUrl())
+                .version(user.getVersion())
                 .build();
     }
 
@@ -0,0 +1,310 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.entity.user.UserSuggestion;
+import com.yourcompany.hrms.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * In-memory prefix index over active users' full name, email and employee code for typeahead.
+ * <p>
+ * The index is an immutable snapshot of two parallel arrays: lower-cased tokens sorted
+ * lexicographically and the suggestion each token belongs to. A prefix lookup is a binary
+ * search plus a forward scan. Writers (create/update/delete hooks) are serialized and publish
+ * a new snapshot with a linear merge, so readers never lock. Saves that leave a user's
+ * suggestion unchanged (e.g. a phone number edit) skip the merge, and upserts queued while
+ * another writer holds the lock are merged together in one copy.
+ */
+@Slf4j
+@Component
+public class UserSuggestIndex implements MeterBinder {
+
+    private record Snapshot(String[] tokens, UserSuggestion[] owners, Map<Long, UserSuggestion> byId,
+                            long estimatedBytes) {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new UserSuggestion[0], Map.of(), 0);
+    }
+
+    private record Posting(String token, UserSuggestion owner) {
+    }
+
+    private static final Comparator<Posting> POSTING_ORDER = Comparator
+            .comparing(Posting::token)
+            .thenComparing(posting -> posting.owner().getId());
+
+    private final UserRepository userRepository;
+    private final Queue<User> pending = new ConcurrentLinkedQueue<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long lastRebuildMillis;
+
+    public UserSuggestIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+
+        Map<Long, UserSuggestion> byId = new HashMap<>();
+        List<Posting> postings = new ArrayList<>();
+        for (User user : userRepository.findAllActive()) {
+            UserSuggestion suggestion = toSuggestion(user);
+            byId.put(suggestion.getId(), suggestion);
+            addPostings(suggestion, postings);
+        }
+        postings.sort(POSTING_ORDER);
+        snapshot = toSnapshot(postings, byId);
+
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("User suggest index built with {} users in {} ms", byId.size(), lastRebuildMillis);
+    }
+
+    public List<UserSuggestion> suggest(String query, int limit) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // Scan on the longest term, the remaining terms must prefix-match some token of the user
+        String scanTerm = Arrays.stream(terms).max(Comparator.comparingInt(String::length)).orElseThrow();
+        Snapshot current = snapshot;
+        Map<Long, UserSuggestion> matches = new LinkedHashMap<>();
+
+        for (int i = lowerBound(current.tokens(), scanTerm);
+             i < current.tokens().length && current.tokens()[i].startsWith(scanTerm) && matches.size() < limit;
+             i++) {
+            UserSuggestion owner = current.owners()[i];
+            if (!matches.containsKey(owner.getId()) && matchesAll(owner, terms)) {
+                matches.put(owner.getId(), owner);
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Indexes the user's current name, email and code (or drops an inactive user). A no-op when
+     * the indexed suggestion would not change.
+     */
+    public void upsert(User user) {
+        if (isCurrent(user)) {
+            return;
+        }
+        pending.add(user);
+        drain();
+    }
+
+    public synchronized void remove(Long userId) {
+        Snapshot current = snapshot;
+        if (!current.byId().containsKey(userId)) {
+            return;
+        }
+        Map<Long, UserSuggestion> byId = new HashMap<>(current.byId());
+        byId.remove(userId);
+        snapshot = toSnapshot(withoutUsers(current, Set.of(userId)), byId);
+    }
+
+    /**
+     * Applies a batch of changed users with a single merge; inactive users are removed.
+     */
+    public void upsertAll(Collection<User> users) {
+        boolean queued = false;
+        for (User user : users) {
+            if (!isCurrent(user)) {
+                pending.add(user);
+                queued = true;
+            }
+        }
+        if (queued) {
+            drain();
+        }
+    }
+
+    // Whoever holds the lock merges everything queued so far; writers that were waiting behind it
+    // usually find their users already applied and return without another copy
+    private synchronized void drain() {
+        Map<Long, User> batch = new LinkedHashMap<>();
+        for (User user = pending.poll(); user != null; user = pending.poll()) {
+            // Later saves of the same user win
+            batch.put(user.getId(), user);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        Set<Long> changedIds = new HashSet<>();
+        Map<Long, UserSuggestion> byId = new HashMap<>(current.byId());
+        List<Posting> added = new ArrayList<>();
+        for (User user : batch.values()) {
+            changedIds.add(user.getId());
+            if (user.isActive()) {
+                UserSuggestion suggestion = toSuggestion(user);
+                byId.put(suggestion.getId(), suggestion);
+                addPostings(suggestion, added);
+            } else {
+                byId.remove(user.getId());
+            }
+        }
+        added.sort(POSTING_ORDER);
+        snapshot = toSnapshot(merge(withoutUsers(current, changedIds), added), byId);
+    }
+
+    private boolean isCurrent(User user) {
+        UserSuggestion indexed = snapshot.byId().get(user.getId());
+        return user.isActive() ? toSuggestion(user).equals(indexed) : indexed == null;
+    }
+
+    public int size() {
+        return snapshot.byId().size();
+    }
+
+    public double estimatedBytesPerUser() {
+        Snapshot current = snapshot;
+        return current.byId().isEmpty() ? 0 : (double) current.estimatedBytes() / current.byId().size();
+    }
+
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    private static UserSuggestion toSuggestion(User user) {
+        return UserSuggestion.builder()
+                .id(user.getId())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .employeeCode(user.getEmployeeCode())
+                .designation(user.getDesignation())
+                .profileImageUrl(user.getProfileImageUrl())
+                .build();
+    }
+
+    private static void addPostings(UserSuggestion suggestion, List<Posting> postings) {
+        for (String token : tokensOf(suggestion)) {
+            postings.add(new Posting(token, suggestion));
+        }
+    }
+
+    // Name words, the full email and its local part, and the employee code
+    private static List<String> tokensOf(UserSuggestion suggestion) {
+        List<String> tokens = new ArrayList<>(List.of(tokenize(suggestion.getFullName())));
+        if (suggestion.getEmail() != null) {
+            String email = suggestion.getEmail().toLowerCase(Locale.ROOT);
+            tokens.add(email);
+            int at = email.indexOf('@');
+            if (at > 0) {
+                tokens.addAll(List.of(tokenize(email.substring(0, at))));
+            }
+        }
+        if (suggestion.getEmployeeCode() != null) {
+            tokens.add(suggestion.getEmployeeCode().toLowerCase(Locale.ROOT));
+        }
+        return tokens.stream().distinct().toList();
+    }
+
+    private static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[\\s._\\-]+"))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static boolean matchesAll(UserSuggestion suggestion, String[] terms) {
+        if (terms.length == 1) {
+            return true;
+        }
+        List<String> tokens = tokensOf(suggestion);
+        for (String term : terms) {
+            if (tokens.stream().noneMatch(token -> token.startsWith(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lowerBound(String[] tokens, String key) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<Posting> withoutUsers(Snapshot snapshot, Set<Long> userIds) {
+        List<Posting> postings = new ArrayList<>(snapshot.tokens().length);
+        for (int i = 0; i < snapshot.tokens().length; i++) {
+            if (!userIds.contains(snapshot.owners()[i].getId())) {
+                postings.add(new Posting(snapshot.tokens()[i], snapshot.owners()[i]));
+            }
+        }
+        return postings;
+    }
+
+    private static List<Posting> merge(List<Posting> left, List<Posting> right) {
+        List<Posting> merged = new ArrayList<>(left.size() + right.size());
+        int i = 0;
+        int j = 0;
+        while (i < left.size() && j < right.size()) {
+            merged.add(POSTING_ORDER.compare(left.get(i), right.get(j)) <= 0 ? left.get(i++) : right.get(j++));
+        }
+        merged.addAll(left.subList(i, left.size()));
+        merged.addAll(right.subList(j, right.size()));
+        return merged;
+    }
+
+    private static Snapshot toSnapshot(List<Posting> postings, Map<Long, UserSuggestion> byId) {
+        String[] tokens = new String[postings.size()];
+        UserSuggestion[] owners = new UserSuggestion[postings.size()];
+        long bytes = 0;
+        for (int i = 0; i < postings.size(); i++) {
+            tokens[i] = postings.get(i).token();
+            owners[i] = postings.get(i).owner();
+            bytes += stringBytes(tokens[i]) + 8;
+        }
+        for (UserSuggestion suggestion : byId.values()) {
+            bytes += 48 + stringBytes(suggestion.getFullName()) + stringBytes(suggestion.getEmail())
+                    + stringBytes(suggestion.getEmployeeCode()) + stringBytes(suggestion.getDesignation())
+                    + stringBytes(suggestion.getProfileImageUrl());
+        }
+        return new Snapshot(tokens, owners, Map.copyOf(byId), bytes);
+    }
+
+    // Rough retained size of a compact (Latin-1) string: object and array headers plus the bytes
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("hrms.user-suggest.users", this, UserSuggestIndex::size).register(registry);
+        Gauge.builder("hrms.user-suggest.bytes-per-user", this, UserSuggestIndex::estimatedBytesPerUser)
+                .baseUnit("bytes").register(registry);
+        Gauge.builder("hrms.user-suggest.rebuild-time", this, UserSuggestIndex::getLastRebuildMillis)
+                .baseUnit("milliseconds").register(registry);
+    }
+}
@@ -0,0 +1,21 @@
+-- Full-text user search (hrms.user-search.mode=fulltext). Apply before enabling that mode;
+-- the application only checks that these objects exist and never creates them itself.
+--
+-- Run with psql in autocommit mode: CREATE INDEX CONCURRENTLY cannot run in a transaction block.
+-- Adding a stored generated column rewrites the users table under an exclusive lock, so run the
+-- ALTER TABLE in a maintenance window. The index builds do not block writes.
+-- The expression must match UserRepository.SEARCH_DOCUMENT.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', lower(coalesce(full_name, '') || ' ' || coalesce(email, '') || ' ' ||
+        coalesce(employee_code, '') || ' ' || coalesce(department, '') || ' ' || coalesce(designation, '')))) STORED;
+
+-- A failed concurrent build leaves an INVALID index behind: drop it and run the statement again
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_search_vector
+    ON users USING gin (search_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_search_trgm
+    ON users USING gin ((lower(coalesce(full_name, '') || ' ' || coalesce(email, '') || ' ' ||
+        coalesce(employee_code, '') || ' ' || coalesce(department, '') || ' ' || coalesce(designation, ''))) gin_trgm_ops);
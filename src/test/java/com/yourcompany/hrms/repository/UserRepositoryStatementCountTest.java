@@ -0,0 +1,136 @@
+package com.yourcompany.hrms.repository;
+
+import com.yourcompany.hrms.entity.EmploymentType;
+import com.yourcompany.hrms.entity.Role;
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.entity.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The user listing must cost the same number of statements whatever the page size: createdBy is
+ * either joined into the page query or loaded in one batch, never per row. Role and organization
+ * names come from ReferenceDataRegistry and are not touched here.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Statement counts must not depend on what an entity cache happens to hold
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class UserRepositoryStatementCountTest {
+
+    private static final int CREATORS = 100;
+    private static final int EMPLOYEES = 200;
+    private static final int[] PAGE_SIZES = {1, 20, 100};
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role role = entityManager.persist(Role.builder().name(RoleName.EMPLOYEE).build());
+
+        // Every employee has a different creator than its neighbours, and the creators sort
+        // after all employees (id descending), so no page contains the creators it references
+        LocalDateTime now = LocalDateTime.now();
+        User[] creators = new User[CREATORS];
+        for (int i = 0; i < CREATORS; i++) {
+            creators[i] = entityManager.persist(user("creator" + i, role, null, now));
+        }
+        for (int i = 0; i < EMPLOYEES; i++) {
+            entityManager.persist(user("employee" + i, role, creators[i % CREATORS], now));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void searchPageUsesPageAndCountQueriesOnly() {
+        assertConstantStatementCount(2, size -> userRepository
+                .findAllWithSearch("", PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id")))
+                .getContent());
+    }
+
+    @Test
+    void searchSliceUsesOneQuery() {
+        assertConstantStatementCount(1, size -> userRepository
+                .findSliceWithSearch("", PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id")))
+                .getContent());
+    }
+
+    @Test
+    void filteredPageFetchesCreatorInPageQuery() {
+        Specification<User> all = (root, query, cb) -> cb.conjunction();
+        assertConstantStatementCount(2, size -> userRepository
+                .findPage(all, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id")), "createdBy")
+                .getContent());
+    }
+
+    @Test
+    void keysetPageLoadsCreatorsInOneBatch() {
+        assertConstantStatementCount(2, size -> userRepository
+                .findPageAfter(null, UserSortKey.ID, true, null, null, size));
+    }
+
+    private void assertConstantStatementCount(long expected, IntFunction<List<User>> loadPage) {
+        for (int size : PAGE_SIZES) {
+            entityManager.clear();
+            statistics.clear();
+
+            List<User> page = loadPage.apply(size);
+            // What UserResponse reads from createdBy
+            page.forEach(user -> user.getCreatedBy().getFullName());
+
+            assertThat(page).hasSize(size);
+            assertThat(statistics.getPrepareStatementCount())
+                    .as("statements for a page of %d", size)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static User user(String name, Role role, User createdBy, LocalDateTime createdAt) {
+        return User.builder()
+                .email(name + "@company.com")
+                .password("not-a-real-hash")
+                .fullName(name)
+                .employeeCode(name.toUpperCase())
+                .employmentType(EmploymentType.FULL_TIME)
+                .createdAt(createdAt)
+                .createdBy(createdBy)
+                .role(role)
+                .build();
+    }
+}
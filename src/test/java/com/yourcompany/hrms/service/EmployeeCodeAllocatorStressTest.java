@@ -0,0 +1,124 @@
+package com.yourcompany.hrms.service;
+
+import com.yourcompany.hrms.entity.EmploymentType;
+import com.yourcompany.hrms.entity.Role;
+import com.yourcompany.hrms.entity.RoleName;
+import com.yourcompany.hrms.entity.user.User;
+import com.yourcompany.hrms.repository.RoleRepository;
+import com.yourcompany.hrms.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creates users in parallel through two allocators sharing one database, as two nodes would,
+ * after codes inside the allocators' future blocks were entered by hand. Every insert must
+ * succeed and no code may be handed out twice.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(EmployeeCodeAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeCodeAllocatorStressTest {
+
+    private static final int THREADS = 16;
+    private static final int USERS_PER_THREAD = 50;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EmployeeCodeAllocator allocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Test
+    void parallelCreatesNeverCollide() throws Exception {
+        Role role = roleRepository.save(Role.builder().name(RoleName.EMPLOYEE).build());
+
+        // The sequence was created at startup from an empty table, so these lie in its first blocks
+        Set<String> manualCodes = Set.of("EMP-1003", "EMP-1020", "EMP-1041", "EMP-1100");
+        manualCodes.forEach(code -> userRepository.save(user(code, role)));
+
+        EmployeeCodeAllocator otherNode = new EmployeeCodeAllocator(jdbcTemplate, 20);
+        otherNode.afterSingletonsInstantiated();
+        EmployeeCodeAllocator[] nodes = {allocator, otherNode};
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            EmployeeCodeAllocator node = nodes[t % nodes.length];
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> codes = new ArrayList<>(USERS_PER_THREAD);
+                for (int i = 0; i < USERS_PER_THREAD; i++) {
+                    String code = node.next(RoleName.EMPLOYEE);
+                    userRepository.save(user(code, role));
+                    codes.add(code);
+                }
+                return codes;
+            }));
+        }
+        start.countDown();
+
+        List<String> issued = new ArrayList<>();
+        try {
+            for (Future<List<String>> future : futures) {
+                issued.addAll(future.get(2, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued)
+                .hasSize(THREADS * USERS_PER_THREAD)
+                .doesNotHaveDuplicates()
+                .doesNotContainAnyElementsOf(manualCodes)
+                .allMatch(code -> code.matches("EMP-\\d+"));
+        assertThat(userRepository.count()).isEqualTo(manualCodes.size() + issued.size());
+    }
+
+    private static User user(String employeeCode, Role role) {
+        return User.builder()
+                .email(employeeCode.toLowerCase(Locale.ROOT) + "@company.com")
+                .password("not-a-real-hash")
+                .fullName("User " + employeeCode)
+                .employeeCode(employeeCode)
+                .employmentType(EmploymentType.PROBATION)
+                .createdAt(LocalDateTime.now())
+                .role(role)
+                .build();
+    }
+}